@@ -0,0 +1,150 @@
+package com.demo.ignite.benchmark;
+
+import com.demo.ignite.config.IgniteConfig;
+import com.demo.ignite.entity.Product;
+import com.demo.ignite.ingest.SyntheticData;
+import com.demo.ignite.query.ScanQueryEngine;
+import com.demo.ignite.query.SqlQueryEngine;
+import com.demo.ignite.repository.FieldProjector;
+import com.demo.ignite.repository.ProductRepository;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.IgniteDataStreamer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cluster Scaling Benchmark
+ * Starts 1, 2 or 4 server nodes in one JVM with the cluster settings (static-IP discovery on
+ * localhost, PARTITIONED caches with one backup) and measures get, put and query throughput
+ * through the first node's ProductRepository.
+ *
+ * All nodes share the fork's CPUs, so this shows the cost of distribution (remote gets,
+ * backup writes, fan-out queries) rather than added capacity; for capacity, run application
+ * nodes with the cluster profile on separate hosts
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {
+        "-Xms3g", "-Xmx3g", "-Djava.net.preferIPv4Stack=true",
+        "--add-opens", "java.base/java.io=ALL-UNNAMED",
+        "--add-opens", "java.base/java.nio=ALL-UNNAMED",
+        "--add-opens", "java.base/sun.nio.ch=ALL-UNNAMED",
+        "--add-opens", "java.base/java.lang.reflect=ALL-UNNAMED",
+        "--add-opens", "java.base/java.text=ALL-UNNAMED",
+        "--add-opens", "java.base/java.util=ALL-UNNAMED",
+        "--add-opens", "java.base/java.util.concurrent=ALL-UNNAMED",
+        "--add-opens", "java.base/java.lang=ALL-UNNAMED",
+        "--add-opens", "java.base/java.time=ALL-UNNAMED",
+        "--add-opens", "java.base/java.math=ALL-UNNAMED",
+        "--add-opens", "java.base/sun.net.util=ALL-UNNAMED",
+        "--add-opens", "java.management/sun.management=ALL-UNNAMED",
+        "--add-opens", "jdk.management/com.sun.management.internal=ALL-UNNAMED"
+})
+public class ClusterScalingBenchmark {
+
+    private static final int CACHE_SIZE = 100_000;
+
+    /**
+     * Ports away from the application defaults (47500/47100) so a running demo node is not joined
+     */
+    private static final int DISCOVERY_PORT = 48500;
+    private static final int COMMUNICATION_PORT = 48100;
+
+    @Param({"1", "2", "4"})
+    private int nodes;
+
+    @Param({"scan", "sql"})
+    private String queryEngine;
+
+    private final List<AnnotationConfigApplicationContext> contexts = new ArrayList<>();
+
+    private ProductRepository productRepository;
+
+    @Setup(Level.Trial)
+    public void startCluster() {
+        for (int i = 0; i < nodes; i++) {
+            AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+            context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark", Map.of(
+                    "ignite.instance-name", "benchmark-node-" + i,
+                    "ignite.query.engine", queryEngine,
+                    "ignite.data-region.initial-size-mb", "128",
+                    "ignite.data-region.max-size-mb", "512",
+                    "ignite.cluster.enabled", "true",
+                    "ignite.cluster.discovery.addresses", "127.0.0.1:" + DISCOVERY_PORT + ".." + (DISCOVERY_PORT + 9),
+                    "ignite.cluster.discovery.port", String.valueOf(DISCOVERY_PORT),
+                    "ignite.cluster.communication.port", String.valueOf(COMMUNICATION_PORT))));
+            context.register(IgniteConfig.class, FieldProjector.class,
+                    ScanQueryEngine.class, SqlQueryEngine.class, ProductRepository.class);
+            context.refresh();
+            contexts.add(context);
+        }
+        productRepository = contexts.get(0).getBean(ProductRepository.class);
+
+        // Loaded after all nodes joined, so no rebalancing runs during measurement
+        Ignite ignite = contexts.get(0).getBean(Ignite.class);
+        try (IgniteDataStreamer<Long, Product> streamer = ignite.dataStreamer("ProductCache")) {
+            Iterator<Product> products = SyntheticData.products(CACHE_SIZE);
+            while (products.hasNext()) {
+                Product product = products.next();
+                streamer.addData(product.getId(), product);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopCluster() {
+        for (int i = contexts.size() - 1; i >= 0; i--) {
+            contexts.get(i).close();
+        }
+        contexts.clear();
+    }
+
+    @Benchmark
+    public Product get() {
+        return productRepository.findById(randomId());
+    }
+
+    @Benchmark
+    public Product put() {
+        long id = randomId();
+        return productRepository.save(new Product(id, "Product " + id, "Benchmark product " + id,
+                (id * 7919 % 100000) / 100.0, "Electronics", (int) (id % 500), true, System.currentTimeMillis()));
+    }
+
+    /**
+     * Price range selecting about 0.1% of the products
+     */
+    @Benchmark
+    public List<Product> query() {
+        return productRepository.findByPriceRange(100.0, 101.0);
+    }
+
+    private long randomId() {
+        return ThreadLocalRandom.current().nextLong(1, CACHE_SIZE + 1);
+    }
+}
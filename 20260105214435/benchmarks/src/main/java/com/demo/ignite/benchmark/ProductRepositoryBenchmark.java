@@ -0,0 +1,141 @@
+package com.demo.ignite.benchmark;
+
+import com.demo.ignite.config.IgniteConfig;
+import com.demo.ignite.entity.Product;
+import com.demo.ignite.ingest.SyntheticData;
+import com.demo.ignite.query.ScanQueryEngine;
+import com.demo.ignite.query.SqlQueryEngine;
+import com.demo.ignite.repository.FieldProjector;
+import com.demo.ignite.repository.ProductRepository;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.IgniteDataStreamer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ProductRepository Benchmark
+ * Starts an embedded node through the application's IgniteConfig, seeds ProductCache with
+ * SyntheticData and measures the repository's hot paths.
+ *
+ * The configuration parameter combines marshaller and query engine; jdk storage cannot be
+ * combined with the sql engine, so the valid matrix is binary-scan, binary-sql and jdk-scan
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {
+        "-Xms2g", "-Xmx2g", "-Djava.net.preferIPv4Stack=true",
+        "--add-opens", "java.base/java.nio=ALL-UNNAMED",
+        "--add-opens", "java.base/sun.nio.ch=ALL-UNNAMED",
+        "--add-opens", "java.base/java.lang.reflect=ALL-UNNAMED",
+        "--add-opens", "java.base/java.text=ALL-UNNAMED",
+        "--add-opens", "java.base/java.util=ALL-UNNAMED",
+        "--add-opens", "java.base/java.util.concurrent=ALL-UNNAMED",
+        "--add-opens", "java.base/java.lang=ALL-UNNAMED",
+        "--add-opens", "java.base/java.time=ALL-UNNAMED",
+        "--add-opens", "java.base/java.math=ALL-UNNAMED",
+        "--add-opens", "java.base/sun.net.util=ALL-UNNAMED",
+        "--add-opens", "java.management/sun.management=ALL-UNNAMED",
+        "--add-opens", "jdk.management/com.sun.management.internal=ALL-UNNAMED"
+})
+public class ProductRepositoryBenchmark {
+
+    private static final String CATEGORY = "Electronics";
+
+    /**
+     * Synthetic prices are spread over [0, 1000), so this range selects about 0.1% of the products
+     */
+    private static final double MIN_PRICE = 100.0;
+    private static final double MAX_PRICE = 101.0;
+
+    @Param({"10000", "1000000"})
+    private int cacheSize;
+
+    @Param({"binary-scan", "binary-sql", "jdk-scan"})
+    private String configuration;
+
+    private AnnotationConfigApplicationContext context;
+
+    private ProductRepository productRepository;
+
+    @Setup(Level.Trial)
+    public void startNode() {
+        String[] storageAndEngine = configuration.split("-");
+
+        context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark", Map.of(
+                "ignite.storage.mode", storageAndEngine[0],
+                "ignite.query.engine", storageAndEngine[1],
+                "ignite.data-region.max-size-mb", "2048")));
+        context.register(IgniteConfig.class, FieldProjector.class,
+                ScanQueryEngine.class, SqlQueryEngine.class, ProductRepository.class);
+        context.refresh();
+        productRepository = context.getBean(ProductRepository.class);
+
+        Ignite ignite = context.getBean(Ignite.class);
+        try (IgniteDataStreamer<Long, Product> streamer = ignite.dataStreamer("ProductCache")) {
+            Iterator<Product> products = SyntheticData.products(cacheSize);
+            while (products.hasNext()) {
+                Product product = products.next();
+                streamer.addData(product.getId(), product);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopNode() {
+        context.close();
+    }
+
+    @Benchmark
+    public Product findById() {
+        return productRepository.findById(randomId());
+    }
+
+    @Benchmark
+    public List<Product> findByCategory() {
+        return productRepository.findByCategory(CATEGORY);
+    }
+
+    @Benchmark
+    public List<Product> findByPriceRange() {
+        return productRepository.findByPriceRange(MIN_PRICE, MAX_PRICE);
+    }
+
+    @Benchmark
+    public List<Product> findAll() {
+        return productRepository.findAll();
+    }
+
+    @Benchmark
+    public Product save() {
+        long id = randomId();
+        return productRepository.save(new Product(id, "Product " + id, "Benchmark product " + id,
+                (id * 7919 % 100000) / 100.0, CATEGORY, (int) (id % 500), true, System.currentTimeMillis()));
+    }
+
+    private long randomId() {
+        return ThreadLocalRandom.current().nextLong(1, cacheSize + 1);
+    }
+}
@@ -0,0 +1,144 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop HTTP load generator
+ * Each simulated client sends a GET, waits for the response and immediately sends the next one,
+ * so throughput and latency reflect how many requests the server can keep in flight.
+ *
+ * Run with the JDK source launcher against a running application:
+ *   java loadtest/LoadTest.java http://localhost:8080/api/products/%d 1000 30 8
+ *
+ * Arguments: URL template (%d is replaced by a random key in [1, maxKey]), clients,
+ * duration in seconds, maxKey, warm-up seconds (default 5).
+ * Prints a human readable summary followed by one JSON line.
+ */
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("usage: java LoadTest.java <urlTemplate> [clients] [durationSec] [maxKey] [warmupSec]");
+            System.exit(2);
+        }
+        String urlTemplate = args[0];
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        int durationSec = args.length > 2 ? Integer.parseInt(args[2]) : 30;
+        long maxKey = args.length > 3 ? Long.parseLong(args[3]) : 8;
+        int warmupSec = args.length > 4 ? Integer.parseInt(args[4]) : 5;
+
+        HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        long start = System.nanoTime();
+        long measureFrom = start + Duration.ofSeconds(warmupSec).toNanos();
+        long deadline = measureFrom + Duration.ofSeconds(durationSec).toNanos();
+
+        Client[] all = new Client[clients];
+        CountDownLatch finished = new CountDownLatch(clients);
+        for (int i = 0; i < clients; i++) {
+            all[i] = new Client(http, urlTemplate, maxKey, measureFrom, deadline, finished);
+            all[i].next();
+        }
+        finished.await();
+
+        long requests = 0;
+        for (Client client : all) {
+            requests += client.count;
+        }
+        long[] latencies = new long[(int) requests];
+        int offset = 0;
+        for (Client client : all) {
+            System.arraycopy(client.latencies, 0, latencies, offset, client.count);
+            offset += client.count;
+        }
+        Arrays.sort(latencies);
+
+        long errors = Client.ERRORS.sum();
+        double throughput = requests / (double) durationSec;
+        System.out.printf("url=%s clients=%d duration=%ds%n", urlTemplate, clients, durationSec);
+        System.out.printf("requests=%d errors=%d throughput=%.0f req/s%n", requests, errors, throughput);
+        System.out.printf("latency ms: p50=%.2f p90=%.2f p99=%.2f max=%.2f%n",
+                millis(latencies, 0.50), millis(latencies, 0.90), millis(latencies, 0.99), millis(latencies, 1.0));
+        System.out.printf("{\"url\":\"%s\",\"clients\":%d,\"durationSec\":%d,\"requests\":%d,\"errors\":%d,"
+                        + "\"throughput\":%.1f,\"p50Ms\":%.3f,\"p90Ms\":%.3f,\"p99Ms\":%.3f,\"maxMs\":%.3f}%n",
+                urlTemplate, clients, durationSec, requests, errors, throughput,
+                millis(latencies, 0.50), millis(latencies, 0.90), millis(latencies, 0.99), millis(latencies, 1.0));
+    }
+
+    private static double millis(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    /**
+     * One simulated client. Its requests are strictly sequential, so its latency buffer is only
+     * touched by one callback at a time
+     */
+    private static final class Client {
+
+        static final LongAdder ERRORS = new LongAdder();
+
+        private final HttpClient http;
+        private final String urlTemplate;
+        private final long maxKey;
+        private final long measureFrom;
+        private final long deadline;
+        private final CountDownLatch finished;
+
+        long[] latencies = new long[1024];
+        int count;
+
+        Client(HttpClient http, String urlTemplate, long maxKey, long measureFrom, long deadline,
+               CountDownLatch finished) {
+            this.http = http;
+            this.urlTemplate = urlTemplate;
+            this.maxKey = maxKey;
+            this.measureFrom = measureFrom;
+            this.deadline = deadline;
+            this.finished = finished;
+        }
+
+        void next() {
+            long sentAt = System.nanoTime();
+            if (sentAt >= deadline) {
+                finished.countDown();
+                return;
+            }
+            long key = ThreadLocalRandom.current().nextLong(1, maxKey + 1);
+            HttpRequest request = HttpRequest.newBuilder(URI.create(String.format(urlTemplate, key)))
+                    .timeout(Duration.ofSeconds(30))
+                    .GET()
+                    .build();
+            http.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        if (sentAt >= measureFrom) {
+                            if (error != null || response.statusCode() >= 500) {
+                                ERRORS.increment();
+                            } else {
+                                record(System.nanoTime() - sentAt);
+                            }
+                        }
+                        next();
+                    });
+        }
+
+        private void record(long nanos) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+        }
+    }
+}
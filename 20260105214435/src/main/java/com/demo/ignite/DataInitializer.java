@@ -2,28 +2,62 @@ package com.demo.ignite;
 
 import com.demo.ignite.entity.Product;
 import com.demo.ignite.entity.User;
+import com.demo.ignite.ingest.IngestJob;
+import com.demo.ignite.ingest.SyntheticData;
+import com.demo.ignite.service.BulkIngestService;
 import com.demo.ignite.service.ProductService;
 import com.demo.ignite.service.UserService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
 
 /**
  * Data Initializer
- * Populates the cache with sample data when the application starts
+ * Populates the cache with sample data when the application starts.
+ * With data.init.mode=synthetic it instead seeds generated rows through the bulk ingest path for benchmarking
  */
 @Component
 public class DataInitializer implements CommandLineRunner {
 
     private final UserService userService;
     private final ProductService productService;
+    private final BulkIngestService bulkIngestService;
 
-    public DataInitializer(UserService userService, ProductService productService) {
+    /**
+     * sample (8 products, 5 users), synthetic (generated rows) or none
+     */
+    @Value("${data.init.mode:sample}")
+    private String mode;
+
+    @Value("${data.init.synthetic.products:1000000}")
+    private long syntheticProducts;
+
+    @Value("${data.init.synthetic.users:100000}")
+    private long syntheticUsers;
+
+    public DataInitializer(UserService userService, ProductService productService,
+                           BulkIngestService bulkIngestService) {
         this.userService = userService;
         this.productService = productService;
+        this.bulkIngestService = bulkIngestService;
     }
 
     @Override
     public void run(String... args) throws Exception {
+        if ("none".equalsIgnoreCase(mode)) {
+            return;
+        }
+        if (userService.countUsers() > 0 || productService.countProducts() > 0) {
+            // Data recovered from native persistence on restart; nothing to reload
+            System.out.println("✓ Caches already contain " + userService.countUsers() + " users and "
+                    + productService.countProducts() + " products, skipping data initialization");
+            return;
+        }
+        if ("synthetic".equalsIgnoreCase(mode)) {
+            initializeSyntheticData();
+            return;
+        }
+
         System.out.println("========================================");
         System.out.println("Initializing sample data in Ignite cache...");
         System.out.println("========================================");
@@ -39,6 +73,22 @@ public class DataInitializer implements CommandLineRunner {
         System.out.println("========================================");
     }
 
+    private void initializeSyntheticData() {
+        System.out.println("========================================");
+        System.out.println("Seeding synthetic data through IgniteDataStreamer...");
+        System.out.println("========================================");
+
+        IngestJob users = bulkIngestService.ingestUsers(
+                SyntheticData.users(syntheticUsers), "synthetic", bulkIngestService.defaultOptions());
+        System.out.println("✓ " + users.getRowsSubmitted() + " synthetic users created in UserCache in "
+                + users.getElapsedMillis() + " ms (" + users.getRowsPerSecond() + " rows/s)");
+
+        IngestJob products = bulkIngestService.ingestProducts(
+                SyntheticData.products(syntheticProducts), "synthetic", bulkIngestService.defaultOptions());
+        System.out.println("✓ " + products.getRowsSubmitted() + " synthetic products created in ProductCache in "
+                + products.getElapsedMillis() + " ms (" + products.getRowsPerSecond() + " rows/s)");
+    }
+
     private void initializeUsers() {
         Long currentTime = System.currentTimeMillis();
 
@@ -0,0 +1,258 @@
+package com.demo.ignite.aggregate;
+
+import org.apache.ignite.Ignite;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.cache.affinity.Affinity;
+import org.apache.ignite.cache.query.ContinuousQuery;
+import org.apache.ignite.cache.query.QueryCursor;
+import org.apache.ignite.cache.query.ScanQuery;
+
+import javax.cache.Cache;
+import javax.cache.event.CacheEntryEvent;
+import javax.cache.event.EventType;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Continuous Aggregate
+ * Keeps an in-memory aggregate of a cache up to date with a ContinuousQuery.
+ * On start a scan loads the current contents; every later put or remove is
+ * applied as a delta (remove the old value, add the new one), so reads cost O(1).
+ *
+ * The initial load scans one partition at a time and adds each value as it goes. Only the
+ * keys updated during the load are remembered: their last value, and what the scan added for
+ * them. Those keys are reconciled at the end, so the load holds one partition, not the cache.
+ * An update to a partition not yet fully scanned may or may not be in the scanned value, so its
+ * old value is not trusted; an update to a finished partition is taken to have come after the scan.
+ * Expired entries are subtracted like removed ones.
+ * cache.clear() and data streamer loads without allowOverwrite do not produce events,
+ * so callers must invoke {@link #rebuild()} after them
+ */
+public abstract class ContinuousAggregate<V> {
+
+    private final Ignite ignite;
+
+    private final String cacheName;
+
+    private final Object lock = new Object();
+
+    private QueryCursor<Cache.Entry<Long, V>> cursor;
+
+    /**
+     * Keys updated during the initial load; null once the aggregate is live
+     */
+    private Rebuild<V> rebuilding;
+
+    private volatile long lastRebuildAt;
+
+    private volatile long lastRebuildMillis;
+
+    protected ContinuousAggregate(Ignite ignite, String cacheName) {
+        this.ignite = ignite;
+        this.cacheName = cacheName;
+    }
+
+    /**
+     * Add (sign = 1) or remove (sign = -1) the contribution of one value
+     */
+    protected abstract void apply(V value, int sign);
+
+    /**
+     * Reset all counters to zero
+     */
+    protected abstract void reset();
+
+    /**
+     * Register the continuous query and load the current cache contents
+     */
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        closeCursor();
+        Affinity<Long> affinity = ignite.affinity(cacheName);
+        synchronized (lock) {
+            reset();
+            rebuilding = new Rebuild<>(affinity);
+        }
+
+        ContinuousQuery<Long, V> query = new ContinuousQuery<>();
+        // TTL expiry removes entries too; page eviction does not notify and is not reflected
+        query.setIncludeExpired(true);
+        query.setLocalListener(this::onUpdated);
+
+        // The listener is registered before the scans start, so no update is missed
+        IgniteCache<Long, V> cache = ignite.cache(cacheName);
+        cursor = cache.query(query);
+        for (int partition = 0; partition < affinity.partitions(); partition++) {
+            scanPartition(cache, partition);
+        }
+
+        synchronized (lock) {
+            rebuilding.lastValues.forEach((key, value) -> {
+                V scanned = rebuilding.scannedValues.get(key);
+                if (scanned != null) {
+                    apply(scanned, -1);
+                }
+                if (value != null) {
+                    apply(value, 1);
+                }
+            });
+            rebuilding = null;
+        }
+        lastRebuildAt = start;
+        lastRebuildMillis = System.currentTimeMillis() - start;
+    }
+
+    /**
+     * Add the values of one partition, then record what the scan found for the keys updated so far
+     */
+    private void scanPartition(IgniteCache<Long, V> cache, int partition) {
+        Map<Long, V> partitionValues = new HashMap<>();
+        try (QueryCursor<Cache.Entry<Long, V>> scan = cache.query(new ScanQuery<Long, V>().setPartition(partition))) {
+            for (Cache.Entry<Long, V> entry : scan) {
+                synchronized (lock) {
+                    apply(entry.getValue(), 1);
+                }
+                partitionValues.put(entry.getKey(), entry.getValue());
+            }
+        }
+        synchronized (lock) {
+            for (Long key : rebuilding.unscannedKeys(partition)) {
+                rebuilding.scannedValues.put(key, partitionValues.get(key));
+            }
+            rebuilding.scannedPartitions = partition + 1;
+        }
+    }
+
+    /**
+     * Stop listening for updates
+     */
+    public synchronized void close() {
+        closeCursor();
+    }
+
+    public String getCacheName() {
+        return cacheName;
+    }
+
+    public long getLastRebuildAt() {
+        return lastRebuildAt;
+    }
+
+    public long getLastRebuildMillis() {
+        return lastRebuildMillis;
+    }
+
+    /**
+     * Run a read of the counters under the update lock, so multi-counter snapshots are consistent
+     */
+    protected <T> T read(Supplier<T> reader) {
+        synchronized (lock) {
+            return reader.get();
+        }
+    }
+
+    /**
+     * Add sign to a keyed counter, dropping keys whose count reaches zero
+     */
+    protected static <K> void increment(Map<K, Long> counts, K key, int sign) {
+        long count = counts.getOrDefault(key, 0L) + sign;
+        if (count == 0) {
+            counts.remove(key);
+        } else {
+            counts.put(key, count);
+        }
+    }
+
+    private void onUpdated(Iterable<CacheEntryEvent<? extends Long, ? extends V>> events) {
+        synchronized (lock) {
+            for (CacheEntryEvent<? extends Long, ? extends V> event : events) {
+                if (rebuilding != null) {
+                    rebuilding.record(event);
+                } else {
+                    applyEvent(event);
+                }
+            }
+        }
+    }
+
+    private void applyEvent(CacheEntryEvent<? extends Long, ? extends V> event) {
+        V oldValue = event.getOldValue();
+        if (oldValue != null) {
+            apply(oldValue, -1);
+        }
+        if (isPut(event)) {
+            apply(event.getValue(), 1);
+        }
+    }
+
+    private static boolean isPut(CacheEntryEvent<?, ?> event) {
+        return event.getEventType() == EventType.CREATED || event.getEventType() == EventType.UPDATED;
+    }
+
+    private void closeCursor() {
+        if (cursor != null) {
+            try {
+                cursor.close();
+            } catch (IgniteException e) {
+                // Ignite's shutdown hook may stop the node first; the query is gone with it
+            }
+            cursor = null;
+        }
+    }
+
+    /**
+     * Keys updated during an initial load, guarded by the aggregate's lock
+     */
+    private static final class Rebuild<V> {
+
+        private final Affinity<Long> affinity;
+
+        /**
+         * Value after the last update of each key, null if removed
+         */
+        private final Map<Long, V> lastValues = new HashMap<>();
+
+        /**
+         * Value the scan added for each updated key, null if it found none
+         */
+        private final Map<Long, V> scannedValues = new HashMap<>();
+
+        /**
+         * Updated keys of partitions not fully scanned yet, by partition
+         */
+        private final Map<Integer, Set<Long>> unscanned = new HashMap<>();
+
+        /**
+         * Partitions below this one are fully scanned
+         */
+        private int scannedPartitions;
+
+        private Rebuild(Affinity<Long> affinity) {
+            this.affinity = affinity;
+        }
+
+        private void record(CacheEntryEvent<? extends Long, ? extends V> event) {
+            Long key = event.getKey();
+            lastValues.put(key, isPut(event) ? event.getValue() : null);
+            if (scannedValues.containsKey(key)) {
+                return;
+            }
+            int partition = affinity.partition(key);
+            if (partition < scannedPartitions) {
+                // The scan read this key before the update
+                scannedValues.put(key, event.getOldValue());
+            } else {
+                unscanned.computeIfAbsent(partition, p -> new HashSet<>()).add(key);
+            }
+        }
+
+        private Set<Long> unscannedKeys(int partition) {
+            Set<Long> keys = unscanned.remove(partition);
+            return keys != null ? keys : Set.of();
+        }
+    }
+}
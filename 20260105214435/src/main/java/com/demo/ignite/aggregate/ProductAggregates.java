@@ -0,0 +1,106 @@
+package com.demo.ignite.aggregate;
+
+import com.demo.ignite.entity.Product;
+import org.apache.ignite.Ignite;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Product Aggregates
+ * Materialized product counts: total, available, per category and a price histogram
+ * with fixed-width buckets, maintained from ProductCache updates
+ */
+@Component
+public class ProductAggregates extends ContinuousAggregate<Product> {
+
+    private final double priceBucketWidth;
+
+    private long total;
+
+    private long available;
+
+    private final Map<String, Long> categories = new HashMap<>();
+
+    /**
+     * Bucket index (price / width) to count
+     */
+    private final TreeMap<Long, Long> priceBuckets = new TreeMap<>();
+
+    public ProductAggregates(Ignite ignite,
+                             @Value("${aggregates.price-bucket-width:100}") double priceBucketWidth) {
+        super(ignite, "ProductCache");
+        this.priceBucketWidth = priceBucketWidth;
+    }
+
+    @PostConstruct
+    public void start() {
+        rebuild();
+    }
+
+    @PreDestroy
+    public void stop() {
+        close();
+    }
+
+    @Override
+    protected void apply(Product product, int sign) {
+        total += sign;
+        if (Boolean.TRUE.equals(product.getAvailable())) {
+            available += sign;
+        }
+        if (product.getCategory() != null) {
+            increment(categories, product.getCategory(), sign);
+        }
+        if (product.getPrice() != null) {
+            increment(priceBuckets, (long) Math.floor(product.getPrice() / priceBucketWidth), sign);
+        }
+    }
+
+    @Override
+    protected void reset() {
+        total = 0;
+        available = 0;
+        categories.clear();
+        priceBuckets.clear();
+    }
+
+    /**
+     * Number of products in one category
+     */
+    public long getCategoryCount(String category) {
+        return read(() -> categories.getOrDefault(category, 0L));
+    }
+
+    /**
+     * Consistent snapshot of all product aggregates
+     */
+    public Map<String, Object> snapshot() {
+        return read(() -> {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("total", total);
+            result.put("available", available);
+            result.put("categories", new TreeMap<>(categories));
+            List<Map<String, Object>> histogram = new ArrayList<>();
+            priceBuckets.forEach((bucket, count) -> {
+                Map<String, Object> row = new LinkedHashMap<>();
+                row.put("from", bucket * priceBucketWidth);
+                row.put("to", (bucket + 1) * priceBucketWidth);
+                row.put("count", count);
+                histogram.add(row);
+            });
+            result.put("priceHistogram", histogram);
+            result.put("lastRebuildAt", getLastRebuildAt());
+            result.put("lastRebuildMillis", getLastRebuildMillis());
+            return result;
+        });
+    }
+}
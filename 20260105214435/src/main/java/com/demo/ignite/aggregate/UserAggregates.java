@@ -0,0 +1,76 @@
+package com.demo.ignite.aggregate;
+
+import com.demo.ignite.entity.User;
+import org.apache.ignite.Ignite;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * User Aggregates
+ * Materialized user counts: total, active and an age histogram by decade,
+ * maintained from UserCache updates
+ */
+@Component
+public class UserAggregates extends ContinuousAggregate<User> {
+
+    private long total;
+
+    private long active;
+
+    /**
+     * Decade (age / 10 * 10) to count
+     */
+    private final TreeMap<Integer, Long> ageBuckets = new TreeMap<>();
+
+    public UserAggregates(Ignite ignite) {
+        super(ignite, "UserCache");
+    }
+
+    @PostConstruct
+    public void start() {
+        rebuild();
+    }
+
+    @PreDestroy
+    public void stop() {
+        close();
+    }
+
+    @Override
+    protected void apply(User user, int sign) {
+        total += sign;
+        if (Boolean.TRUE.equals(user.getActive())) {
+            active += sign;
+        }
+        if (user.getAge() != null) {
+            increment(ageBuckets, user.getAge() / 10 * 10, sign);
+        }
+    }
+
+    @Override
+    protected void reset() {
+        total = 0;
+        active = 0;
+        ageBuckets.clear();
+    }
+
+    /**
+     * Consistent snapshot of all user aggregates
+     */
+    public Map<String, Object> snapshot() {
+        return read(() -> {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("total", total);
+            result.put("active", active);
+            result.put("ageHistogram", new TreeMap<>(ageBuckets));
+            result.put("lastRebuildAt", getLastRebuildAt());
+            result.put("lastRebuildMillis", getLastRebuildMillis());
+            return result;
+        });
+    }
+}
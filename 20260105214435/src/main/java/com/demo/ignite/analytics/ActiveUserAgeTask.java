@@ -0,0 +1,51 @@
+package com.demo.ignite.analytics;
+
+import com.demo.ignite.entity.User;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.binary.BinaryObject;
+import org.apache.ignite.lang.IgniteCallable;
+import org.apache.ignite.resources.IgniteInstanceResource;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Active User Age Task
+ * Runs on every server node and returns the age distribution of active users
+ * in that node's primary partitions, bucketed by the given width
+ */
+public class ActiveUserAgeTask implements IgniteCallable<Map<Integer, Long>> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int bucketWidth;
+
+    @IgniteInstanceResource
+    private transient Ignite ignite;
+
+    public ActiveUserAgeTask(int bucketWidth) {
+        this.bucketWidth = bucketWidth;
+    }
+
+    @Override
+    public Map<Integer, Long> call() {
+        Map<Integer, Long> partial = new HashMap<>();
+        LocalPrimaryScan.forEach(ignite, "UserCache", value -> {
+            Boolean active;
+            Integer age;
+            if (value instanceof BinaryObject) {
+                BinaryObject user = (BinaryObject) value;
+                active = user.field("active");
+                age = user.field("age");
+            } else {
+                User user = (User) value;
+                active = user.getActive();
+                age = user.getAge();
+            }
+            if (Boolean.TRUE.equals(active) && age != null) {
+                partial.merge(age / bucketWidth * bucketWidth, 1L, Long::sum);
+            }
+        });
+        return partial;
+    }
+}
@@ -0,0 +1,58 @@
+package com.demo.ignite.analytics;
+
+import com.demo.ignite.entity.Product;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.binary.BinaryObject;
+import org.apache.ignite.lang.IgniteCallable;
+import org.apache.ignite.resources.IgniteInstanceResource;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Category Price Task
+ * Runs on every server node and returns price statistics per category
+ * for the products in that node's primary partitions, optionally limited to a price range
+ */
+public class CategoryPriceTask implements IgniteCallable<Map<String, PriceStats>> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Double minPrice;
+
+    private final Double maxPrice;
+
+    @IgniteInstanceResource
+    private transient Ignite ignite;
+
+    public CategoryPriceTask(Double minPrice, Double maxPrice) {
+        this.minPrice = minPrice;
+        this.maxPrice = maxPrice;
+    }
+
+    @Override
+    public Map<String, PriceStats> call() {
+        Map<String, PriceStats> partial = new HashMap<>();
+        LocalPrimaryScan.forEach(ignite, "ProductCache", value -> {
+            String category;
+            Double price;
+            if (value instanceof BinaryObject) {
+                BinaryObject product = (BinaryObject) value;
+                category = product.field("category");
+                price = product.field("price");
+            } else {
+                Product product = (Product) value;
+                category = product.getCategory();
+                price = product.getPrice();
+            }
+            if (category == null || price == null) {
+                return;
+            }
+            if ((minPrice != null && price < minPrice) || (maxPrice != null && price > maxPrice)) {
+                return;
+            }
+            partial.computeIfAbsent(category, key -> new PriceStats()).add(price);
+        });
+        return partial;
+    }
+}
@@ -0,0 +1,38 @@
+package com.demo.ignite.analytics;
+
+import org.apache.ignite.Ignite;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.query.QueryCursor;
+import org.apache.ignite.cache.query.ScanQuery;
+
+import javax.cache.Cache;
+import java.util.function.Consumer;
+
+/**
+ * Local Primary Scan
+ * Visits the values of the partitions the local node is primary for.
+ * Backup partitions are skipped, so every entry is seen by exactly one node
+ */
+final class LocalPrimaryScan {
+
+    private LocalPrimaryScan() {
+    }
+
+    /**
+     * Visit every local primary value in binary form (BinaryObject, or the entity in JDK storage mode)
+     */
+    static void forEach(Ignite ignite, String cacheName, Consumer<Object> action) {
+        IgniteCache<Long, Object> cache = ignite.cache(cacheName).withKeepBinary();
+        int[] partitions = ignite.affinity(cacheName).primaryPartitions(ignite.cluster().localNode());
+        for (int partition : partitions) {
+            ScanQuery<Long, Object> query = new ScanQuery<>();
+            query.setPartition(partition);
+            query.setLocal(true);
+            try (QueryCursor<Cache.Entry<Long, Object>> cursor = cache.query(query)) {
+                for (Cache.Entry<Long, Object> entry : cursor) {
+                    action.accept(entry.getValue());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.demo.ignite.analytics;
+
+import java.io.Serializable;
+
+/**
+ * Price Stats
+ * Mergeable partial aggregate of product prices: count, sum, min and max
+ */
+public class PriceStats implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private long count;
+
+    private double sum;
+
+    private double min = Double.POSITIVE_INFINITY;
+
+    private double max = Double.NEGATIVE_INFINITY;
+
+    public void add(double price) {
+        count++;
+        sum += price;
+        min = Math.min(min, price);
+        max = Math.max(max, price);
+    }
+
+    public void merge(PriceStats other) {
+        count += other.count;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getSum() {
+        return sum;
+    }
+
+    public Double getMin() {
+        return count == 0 ? null : min;
+    }
+
+    public Double getMax() {
+        return count == 0 ? null : max;
+    }
+
+    public Double getAverage() {
+        return count == 0 ? null : sum / count;
+    }
+}
@@ -1,14 +1,51 @@
 package com.demo.ignite.config;
 
+import com.demo.ignite.entity.Product;
+import com.demo.ignite.entity.User;
+import com.demo.ignite.store.JdbcStoreFactory;
 import org.apache.ignite.Ignite;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.Ignition;
+import org.apache.ignite.cluster.ClusterState;
 import org.apache.ignite.cache.CacheAtomicityMode;
+import org.apache.ignite.cache.CacheMode;
+import org.apache.ignite.cache.QueryEntity;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
+import org.apache.ignite.cache.eviction.EvictionPolicy;
+import org.apache.ignite.cache.eviction.fifo.FifoEvictionPolicyFactory;
+import org.apache.ignite.cache.eviction.lru.LruEvictionPolicyFactory;
 import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataPageEvictionMode;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
 import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.configuration.NearCacheConfiguration;
+import org.apache.ignite.configuration.PageReplacementMode;
+import org.apache.ignite.configuration.WALMode;
+import org.apache.ignite.events.EventType;
 import org.apache.ignite.marshaller.jdk.JdkMarshaller;
+import org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi;
+import org.apache.ignite.spi.discovery.tcp.TcpDiscoverySpi;
+import org.apache.ignite.spi.eventstorage.NoopEventStorageSpi;
+import org.apache.ignite.spi.metric.jmx.JmxMetricExporterSpi;
+import org.apache.ignite.spi.discovery.tcp.ipfinder.vm.TcpDiscoveryVmIpFinder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import javax.cache.configuration.Factory;
+import javax.cache.expiry.AccessedExpiryPolicy;
+import javax.cache.expiry.CreatedExpiryPolicy;
+import javax.cache.expiry.Duration;
+import javax.cache.expiry.ExpiryPolicy;
+import javax.cache.expiry.ModifiedExpiryPolicy;
+import javax.cache.expiry.TouchedExpiryPolicy;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
 /**
  * Apache Ignite Configuration Class
  * Configures Apache Ignite in embedded mode for in-memory SQL caching
@@ -16,6 +53,254 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class IgniteConfig {
 
+    /**
+     * Node name; must be unique per JVM, and per host when persistence is enabled
+     */
+    @Value("${ignite.instance-name:IgniteSpringBootDemo}")
+    private String instanceName;
+
+    /**
+     * Cluster mode: static-IP discovery so several server nodes on one host find each other
+     */
+    @Value("${ignite.cluster.enabled:false}")
+    private boolean clusterEnabled;
+
+    @Value("${ignite.cluster.local-address:127.0.0.1}")
+    private String clusterLocalAddress;
+
+    /**
+     * Comma-separated discovery addresses, each host:port or host:port1..port2
+     */
+    @Value("${ignite.cluster.discovery.addresses:127.0.0.1:47500..47509}")
+    private String discoveryAddresses;
+
+    @Value("${ignite.cluster.discovery.port:47500}")
+    private int discoveryPort;
+
+    @Value("${ignite.cluster.discovery.port-range:10}")
+    private int discoveryPortRange;
+
+    @Value("${ignite.cluster.communication.port:47100}")
+    private int communicationPort;
+
+    @Value("${ignite.cluster.communication.port-range:10}")
+    private int communicationPortRange;
+
+    /**
+     * Data distribution of UserCache and ProductCache: PARTITIONED or REPLICATED
+     */
+    @Value("${ignite.cache.mode:PARTITIONED}")
+    private String cacheMode;
+
+    @Value("${ignite.cache.backups:1}")
+    private int cacheBackups;
+
+    /**
+     * Rendezvous affinity: partition count and whether a primary and its backups may share a host
+     */
+    @Value("${ignite.affinity.partitions:1024}")
+    private int affinityPartitions;
+
+    @Value("${ignite.affinity.exclude-neighbors:false}")
+    private boolean affinityExcludeNeighbors;
+
+    /**
+     * Rebalance throttling, applied when nodes join or leave
+     */
+    @Value("${ignite.rebalance.batch-size-kb:512}")
+    private int rebalanceBatchSizeKb;
+
+    @Value("${ignite.rebalance.throttle-ms:0}")
+    private long rebalanceThrottleMs;
+
+    @Value("${ignite.rebalance.thread-pool-size:1}")
+    private int rebalanceThreadPoolSize;
+
+    /**
+     * Query engine used by the repositories: scan or sql
+     */
+    @Value("${ignite.query.engine:scan}")
+    private String queryEngine;
+
+    /**
+     * Value storage format: binary or jdk (compatibility)
+     */
+    @Value("${ignite.storage.mode:binary}")
+    private String storageMode;
+
+    /**
+     * Product hot tier: near cache for entries owned by other nodes
+     */
+    @Value("${ignite.product-cache.near.enabled:false}")
+    private boolean productNearCacheEnabled;
+
+    @Value("${ignite.product-cache.near.max-size:10000}")
+    private int productNearCacheMaxSize;
+
+    /**
+     * Product hot tier: on-heap cache in front of the off-heap data region
+     */
+    @Value("${ignite.product-cache.onheap.enabled:false}")
+    private boolean productOnheapCacheEnabled;
+
+    @Value("${ignite.product-cache.onheap.max-size:20000}")
+    private int productOnheapCacheMaxSize;
+
+    /**
+     * Eviction policy of both hot tiers: LRU or FIFO
+     */
+    @Value("${ignite.product-cache.eviction-policy:LRU}")
+    private String productEvictionPolicy;
+
+    /**
+     * Per-cache TTL: none, created, accessed, modified or touched (accessed or modified),
+     * with eager cleanup of expired entries by a background thread instead of on access
+     */
+    @Value("${ignite.user-cache.expiry.policy:none}")
+    private String userExpiryPolicy;
+
+    @Value("${ignite.user-cache.expiry.ttl-seconds:0}")
+    private long userExpiryTtlSeconds;
+
+    @Value("${ignite.user-cache.eager-ttl:true}")
+    private boolean userEagerTtl;
+
+    @Value("${ignite.product-cache.expiry.policy:none}")
+    private String productExpiryPolicy;
+
+    @Value("${ignite.product-cache.expiry.ttl-seconds:0}")
+    private long productExpiryTtlSeconds;
+
+    @Value("${ignite.product-cache.eager-ttl:true}")
+    private boolean productEagerTtl;
+
+    /**
+     * Full-text search over User.bio (Lucene index from @QueryTextField)
+     */
+    @Value("${ignite.search.full-text.enabled:false}")
+    private boolean fullTextSearchEnabled;
+
+    /**
+     * Default data region sizing in megabytes
+     */
+    @Value("${ignite.data-region.initial-size-mb:256}")
+    private long dataRegionInitialSizeMb;
+
+    @Value("${ignite.data-region.max-size-mb:1024}")
+    private long dataRegionMaxSizeMb;
+
+    /**
+     * Page eviction for the in-memory region: DISABLED, RANDOM_LRU or RANDOM_2_LRU.
+     * Once the region is filled past the threshold, data pages are evicted instead of
+     * failing with IgniteOutOfMemoryException
+     */
+    @Value("${ignite.data-region.page-eviction-mode:DISABLED}")
+    private String pageEvictionMode;
+
+    @Value("${ignite.data-region.eviction-threshold:0.9}")
+    private double evictionThreshold;
+
+    @Value("${ignite.data-region.empty-pages-pool-size:100}")
+    private int emptyPagesPoolSize;
+
+    /**
+     * Native persistence: data lives on disk and the data region acts as a page cache over it
+     */
+    @Value("${ignite.persistence.enabled:false}")
+    private boolean persistenceEnabled;
+
+    @Value("${ignite.persistence.path:ignite/persistence}")
+    private String persistencePath;
+
+    /**
+     * WAL mode: LOG_ONLY (survives process crashes) or BACKGROUND (faster, may lose recent updates)
+     */
+    @Value("${ignite.persistence.wal-mode:LOG_ONLY}")
+    private String walMode;
+
+    @Value("${ignite.persistence.checkpoint-frequency-ms:180000}")
+    private long checkpointFrequencyMs;
+
+    /**
+     * How pages are replaced when the persisted data does not fit in the data region:
+     * CLOCK, SEGMENTED_LRU or RANDOM_LRU
+     */
+    @Value("${ignite.persistence.page-replacement-mode:CLOCK}")
+    private String pageReplacementMode;
+
+    /**
+     * Activate the cluster after start; a persistent cluster otherwise starts INACTIVE
+     */
+    @Value("${ignite.persistence.auto-activate:true}")
+    private boolean autoActivate;
+
+    /**
+     * H2 cache store behind UserCache and ProductCache: read-through on miss, write-behind batching
+     */
+    @Value("${ignite.store.enabled:false}")
+    private boolean storeEnabled;
+
+    @Value("${ignite.store.url:jdbc:h2:file:./ignite/store/demo;AUTO_SERVER=TRUE}")
+    private String storeUrl;
+
+    @Value("${ignite.store.user:sa}")
+    private String storeUser;
+
+    @Value("${ignite.store.password:}")
+    private String storePassword;
+
+    @Value("${ignite.store.read-through:true}")
+    private boolean storeReadThrough;
+
+    /**
+     * Warm start: load the whole store into empty caches after the node starts
+     */
+    @Value("${ignite.store.load-on-start:true}")
+    private boolean storeLoadOnStart;
+
+    @Value("${ignite.store.write-behind.enabled:true}")
+    private boolean writeBehindEnabled;
+
+    /**
+     * Queued entries per cache that trigger a flush regardless of the flush frequency
+     */
+    @Value("${ignite.store.write-behind.flush-size:10240}")
+    private int writeBehindFlushSize;
+
+    @Value("${ignite.store.write-behind.flush-frequency-ms:5000}")
+    private long writeBehindFlushFrequencyMs;
+
+    @Value("${ignite.store.write-behind.flush-threads:1}")
+    private int writeBehindFlushThreads;
+
+    /**
+     * Entries per writeAll/deleteAll call
+     */
+    @Value("${ignite.store.write-behind.batch-size:512}")
+    private int writeBehindBatchSize;
+
+    /**
+     * Keep only the latest queued value per key, so repeated updates cost one store write
+     */
+    @Value("${ignite.store.write-behind.coalescing:true}")
+    private boolean writeBehindCoalescing;
+
+    /**
+     * Configured storage mode, shared with the repositories and query engines
+     */
+    @Bean
+    public StorageMode storageMode() {
+        return StorageMode.fromProperty(storageMode);
+    }
+
+    /**
+     * Read access to the node's metric registries for the storage and expiry reports
+     */
+    @Bean
+    public MetricRegistrySpi metricRegistrySpi() {
+        return new MetricRegistrySpi();
+    }
+
     /**
      * Configure Ignite Bean
      * This bean will start the Ignite node in embedded mode
@@ -25,11 +310,48 @@ public class IgniteConfig {
     @Bean(destroyMethod = "close")
     public Ignite igniteInstance() {
         IgniteConfiguration cfg = new IgniteConfiguration();
-        cfg.setIgniteInstanceName("IgniteSpringBootDemo");
+        cfg.setIgniteInstanceName(instanceName);
         cfg.setPeerClassLoadingEnabled(true);
+        if (clusterEnabled) {
+            configureCluster(cfg);
+        }
+        cfg.setRebalanceBatchSize(rebalanceBatchSizeKb * 1024);
+        cfg.setRebalanceThrottle(rebalanceThrottleMs);
+        cfg.setRebalanceThreadPoolSize(rebalanceThreadPoolSize);
+
+        // Binary storage keeps Ignite's default BinaryMarshaller;
+        // jdk storage is the compatibility switch for the original JdkMarshaller setup
+        if (storageMode() == StorageMode.JDK) {
+            if (isSqlEngine()) {
+                throw new IllegalStateException(
+                        "ignite.query.engine=sql requires ignite.storage.mode=binary");
+            }
+            if (fullTextSearchEnabled) {
+                throw new IllegalStateException(
+                        "ignite.search.full-text.enabled requires ignite.storage.mode=binary");
+            }
+            cfg.setMarshaller(new JdkMarshaller());
+        }
+
+        if (isExpiryEnabled()) {
+            // Recorded only for the expired counters on /api/test/expiry, which listen locally;
+            // the no-op storage keeps Ignite from retaining the events themselves
+            cfg.setIncludeEventTypes(EventType.EVT_CACHE_OBJECT_EXPIRED);
+            cfg.setEventStorageSpi(new NoopEventStorageSpi());
+        }
+
+        // Setting exporters replaces Ignite's default, which is the JMX exporter unless MBeans are disabled
+        if (IgniteSystemProperties.getBoolean(IgniteSystemProperties.IGNITE_MBEANS_DISABLED)) {
+            cfg.setMetricExporterSpi(metricRegistrySpi());
+        } else {
+            cfg.setMetricExporterSpi(new JmxMetricExporterSpi(), metricRegistrySpi());
+        }
 
-        // Use JDK marshaller to avoid binary serialization issues
-        cfg.setMarshaller(new JdkMarshaller());
+        cfg.setDataStorageConfiguration(configureDataStorage());
+        if (persistenceEnabled) {
+            // A fixed consistent ID keeps the node bound to the same storage folder across restarts
+            cfg.setConsistentId(cfg.getIgniteInstanceName());
+        }
 
         // Configure caches programmatically
         cfg.setCacheConfiguration(
@@ -37,7 +359,86 @@ public class IgniteConfig {
             configureProductCache()
         );
 
-        return Ignition.start(cfg);
+        Ignite ignite = Ignition.start(cfg);
+        if (persistenceEnabled && autoActivate && ignite.cluster().state() != ClusterState.ACTIVE) {
+            ignite.cluster().state(ClusterState.ACTIVE);
+        }
+        if (storeEnabled && storeLoadOnStart) {
+            loadFromStore(ignite.cache("UserCache"));
+            loadFromStore(ignite.cache("ProductCache"));
+        }
+        if (persistenceEnabled && clusterEnabled) {
+            // Persistent clusters keep a fixed baseline by default; let joining nodes take partitions
+            ignite.cluster().baselineAutoAdjustEnabled(true);
+        }
+        return ignite;
+    }
+
+    /**
+     * Warm start from the cache store; skipped when the cache already holds data
+     * (restored from native persistence or loaded by another node)
+     */
+    private void loadFromStore(IgniteCache<Long, Object> cache) {
+        if (cache.size() == 0) {
+            cache.loadCache(null);
+        }
+    }
+
+    /**
+     * Static-IP discovery and communication bound to the local address, so nodes started with
+     * the cluster profile join each other without multicast
+     */
+    private void configureCluster(IgniteConfiguration cfg) {
+        TcpDiscoveryVmIpFinder ipFinder = new TcpDiscoveryVmIpFinder();
+        ipFinder.setAddresses(Arrays.stream(discoveryAddresses.split(",")).map(String::trim).toList());
+
+        TcpDiscoverySpi discoverySpi = new TcpDiscoverySpi();
+        discoverySpi.setIpFinder(ipFinder);
+        discoverySpi.setLocalAddress(clusterLocalAddress);
+        discoverySpi.setLocalPort(discoveryPort);
+        discoverySpi.setLocalPortRange(discoveryPortRange);
+        cfg.setDiscoverySpi(discoverySpi);
+
+        TcpCommunicationSpi communicationSpi = new TcpCommunicationSpi();
+        communicationSpi.setLocalAddress(clusterLocalAddress);
+        communicationSpi.setLocalPort(communicationPort);
+        communicationSpi.setLocalPortRange(communicationPortRange);
+        cfg.setCommunicationSpi(communicationSpi);
+    }
+
+    /**
+     * Configure the default data region and, when enabled, native persistence
+     */
+    private DataStorageConfiguration configureDataStorage() {
+        DataRegionConfiguration regionCfg = new DataRegionConfiguration();
+        regionCfg.setName("Default_Region");
+        regionCfg.setInitialSize(dataRegionInitialSizeMb * 1024 * 1024);
+        regionCfg.setMaxSize(dataRegionMaxSizeMb * 1024 * 1024);
+        regionCfg.setMetricsEnabled(true);
+
+        DataStorageConfiguration storageCfg = new DataStorageConfiguration();
+        if (isPageEvictionEnabled()) {
+            if (persistenceEnabled) {
+                throw new IllegalStateException(
+                        "ignite.data-region.page-eviction-mode applies to in-memory regions; "
+                                + "with persistence use ignite.persistence.page-replacement-mode");
+            }
+            regionCfg.setPageEvictionMode(DataPageEvictionMode.valueOf(pageEvictionMode.trim().toUpperCase()));
+            regionCfg.setEvictionThreshold(evictionThreshold);
+            regionCfg.setEmptyPagesPoolSize(emptyPagesPoolSize);
+        }
+        if (persistenceEnabled) {
+            regionCfg.setPersistenceEnabled(true);
+            regionCfg.setPageReplacementMode(PageReplacementMode.valueOf(pageReplacementMode.trim().toUpperCase()));
+
+            storageCfg.setStoragePath(Paths.get(persistencePath, "db").toString());
+            storageCfg.setWalPath(Paths.get(persistencePath, "wal").toString());
+            storageCfg.setWalArchivePath(Paths.get(persistencePath, "wal", "archive").toString());
+            storageCfg.setWalMode(WALMode.valueOf(walMode.trim().toUpperCase()));
+            storageCfg.setCheckpointFrequency(checkpointFrequencyMs);
+        }
+        storageCfg.setDefaultDataRegionConfiguration(regionCfg);
+        return storageCfg;
     }
 
     /**
@@ -46,7 +447,18 @@ public class IgniteConfig {
     private CacheConfiguration<Long, Object> configureUserCache() {
         CacheConfiguration<Long, Object> cacheCfg = new CacheConfiguration<>("UserCache");
         cacheCfg.setAtomicityMode(CacheAtomicityMode.ATOMIC);
-        cacheCfg.setBackups(1);
+        configureDistribution(cacheCfg);
+        if (storeEnabled) {
+            configureStore(cacheCfg);
+        }
+        configureExpiry(cacheCfg, userExpiryPolicy, userExpiryTtlSeconds, userEagerTtl);
+        if (isSqlEngine() || fullTextSearchEnabled) {
+            // Registers the User table, its @QuerySqlField indexes (age, active)
+            // and the Lucene index on the @QueryTextField bio
+            cacheCfg.setIndexedTypes(Long.class, User.class);
+        } else if (storageMode() == StorageMode.BINARY) {
+            cacheCfg.setQueryEntities(List.of(keyOnlyEntity(User.class)));
+        }
         return cacheCfg;
     }
 
@@ -56,7 +468,116 @@ public class IgniteConfig {
     private CacheConfiguration<Long, Object> configureProductCache() {
         CacheConfiguration<Long, Object> cacheCfg = new CacheConfiguration<>("ProductCache");
         cacheCfg.setAtomicityMode(CacheAtomicityMode.ATOMIC);
-        cacheCfg.setBackups(1);
+        configureDistribution(cacheCfg);
+        if (storeEnabled) {
+            configureStore(cacheCfg);
+        }
+        configureExpiry(cacheCfg, productExpiryPolicy, productExpiryTtlSeconds, productEagerTtl);
+        if (isSqlEngine()) {
+            // Registers the Product table and its @QuerySqlField indexes
+            // (category, price, available and the category+price group index)
+            cacheCfg.setIndexedTypes(Long.class, Product.class);
+        } else if (storageMode() == StorageMode.BINARY) {
+            cacheCfg.setQueryEntities(List.of(keyOnlyEntity(Product.class)));
+        }
+        if (productOnheapCacheEnabled) {
+            // Hot keys stay on heap; copy-on-read stays on so callers never share the cached instance
+            cacheCfg.setOnheapCacheEnabled(true);
+            cacheCfg.setEvictionPolicyFactory(evictionPolicy(productOnheapCacheMaxSize));
+        }
+        if (productNearCacheEnabled) {
+            NearCacheConfiguration<Long, Object> nearCfg = new NearCacheConfiguration<>();
+            nearCfg.setNearEvictionPolicyFactory(evictionPolicy(productNearCacheMaxSize));
+            cacheCfg.setNearConfiguration(nearCfg);
+        }
+        if (productOnheapCacheEnabled || productNearCacheEnabled) {
+            // Hit, miss and eviction counters reported on /api/test/status
+            cacheCfg.setStatisticsEnabled(true);
+        }
         return cacheCfg;
     }
+
+    /**
+     * Back the cache with the H2 store, writing through the write-behind queue
+     */
+    private void configureStore(CacheConfiguration<Long, Object> cacheCfg) {
+        cacheCfg.setCacheStoreFactory(new JdbcStoreFactory(cacheCfg.getName(), storeUrl, storeUser, storePassword));
+        cacheCfg.setReadThrough(storeReadThrough);
+        cacheCfg.setWriteThrough(true);
+        cacheCfg.setWriteBehindEnabled(writeBehindEnabled);
+        cacheCfg.setWriteBehindFlushSize(writeBehindFlushSize);
+        cacheCfg.setWriteBehindFlushFrequency(writeBehindFlushFrequencyMs);
+        cacheCfg.setWriteBehindFlushThreadCount(writeBehindFlushThreads);
+        cacheCfg.setWriteBehindBatchSize(writeBehindBatchSize);
+        cacheCfg.setWriteBehindCoalescing(writeBehindCoalescing);
+        // Write-behind queue depth and overflow counters reported on /api/test/store
+        cacheCfg.setStatisticsEnabled(true);
+    }
+
+    /**
+     * Apply a TTL expiry policy; "none" leaves entries without expiry
+     */
+    private void configureExpiry(CacheConfiguration<Long, Object> cacheCfg, String policy, long ttlSeconds,
+                                 boolean eagerTtl) {
+        cacheCfg.setEagerTtl(eagerTtl);
+        String name = policy.trim().toLowerCase();
+        if (name.equals("none")) {
+            return;
+        }
+        if (ttlSeconds <= 0) {
+            throw new IllegalStateException("Expiry policy " + name + " on " + cacheCfg.getName()
+                    + " needs a positive ttl-seconds");
+        }
+        Duration ttl = new Duration(TimeUnit.SECONDS, ttlSeconds);
+        Factory<? extends ExpiryPolicy> factory = switch (name) {
+            case "created" -> CreatedExpiryPolicy.factoryOf(ttl);
+            case "accessed" -> AccessedExpiryPolicy.factoryOf(ttl);
+            case "modified" -> ModifiedExpiryPolicy.factoryOf(ttl);
+            case "touched" -> TouchedExpiryPolicy.factoryOf(ttl);
+            default -> throw new IllegalStateException("Unknown expiry policy " + policy + " on " + cacheCfg.getName());
+        };
+        cacheCfg.setExpiryPolicyFactory(factory);
+    }
+
+    /**
+     * Apply the configured cache mode, backups and affinity function
+     */
+    private void configureDistribution(CacheConfiguration<Long, Object> cacheCfg) {
+        cacheCfg.setCacheMode(CacheMode.valueOf(cacheMode.trim().toUpperCase()));
+        cacheCfg.setBackups(cacheBackups);
+        cacheCfg.setAffinity(new RendezvousAffinityFunction(affinityExcludeNeighbors, affinityPartitions));
+    }
+
+    /**
+     * Key-only table for keyset paging with the scan engine.
+     * Built by hand rather than from the class, which would also read the @QuerySqlField and
+     * @QueryTextField annotations and register their indexes; this table only has the _key primary key index
+     */
+    private static QueryEntity keyOnlyEntity(Class<?> valueType) {
+        QueryEntity entity = new QueryEntity(Long.class.getName(), valueType.getName());
+        entity.setTableName(valueType.getSimpleName());
+        return entity;
+    }
+
+    /**
+     * Build the configured hot-tier eviction policy with the given maximum entry count
+     */
+    private Factory<? extends EvictionPolicy<Long, Object>> evictionPolicy(int maxSize) {
+        if ("FIFO".equalsIgnoreCase(productEvictionPolicy)) {
+            return new FifoEvictionPolicyFactory<>(maxSize);
+        }
+        return new LruEvictionPolicyFactory<>(maxSize);
+    }
+
+    private boolean isPageEvictionEnabled() {
+        return !"DISABLED".equalsIgnoreCase(pageEvictionMode.trim());
+    }
+
+    private boolean isExpiryEnabled() {
+        return !"none".equalsIgnoreCase(userExpiryPolicy.trim()) || !"none".equalsIgnoreCase(productExpiryPolicy.trim());
+    }
+
+    private boolean isSqlEngine() {
+        return "sql".equalsIgnoreCase(queryEngine);
+    }
 }
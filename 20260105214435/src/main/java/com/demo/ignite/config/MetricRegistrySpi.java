@@ -0,0 +1,77 @@
+package com.demo.ignite.config;
+
+import org.apache.ignite.spi.IgniteSpiAdapter;
+import org.apache.ignite.spi.metric.BooleanMetric;
+import org.apache.ignite.spi.metric.DoubleMetric;
+import org.apache.ignite.spi.metric.IntMetric;
+import org.apache.ignite.spi.metric.LongMetric;
+import org.apache.ignite.spi.metric.Metric;
+import org.apache.ignite.spi.metric.MetricExporterSpi;
+import org.apache.ignite.spi.metric.ReadOnlyMetricManager;
+import org.apache.ignite.spi.metric.ReadOnlyMetricRegistry;
+
+import java.util.function.Predicate;
+
+/**
+ * Metric exporter that exports nothing and only keeps a handle on the node's metric registries.
+ * Lets services read metrics such as io.dataregion.&lt;region&gt; through the public SPI instead of
+ * the deprecated DataRegionMetrics interface
+ */
+public class MetricRegistrySpi extends IgniteSpiAdapter implements MetricExporterSpi {
+
+    private volatile ReadOnlyMetricManager registries;
+
+    @Override
+    public void setMetricRegistry(ReadOnlyMetricManager registries) {
+        this.registries = registries;
+    }
+
+    @Override
+    public void setExportFilter(Predicate<ReadOnlyMetricRegistry> filter) {
+        // Nothing is exported
+    }
+
+    @Override
+    public void spiStart(String igniteInstanceName) {
+    }
+
+    @Override
+    public void spiStop() {
+    }
+
+    /**
+     * Registry with the given name, or null before the node started or if there is none
+     */
+    public ReadOnlyMetricRegistry registry(String name) {
+        ReadOnlyMetricManager current = registries;
+        if (current == null) {
+            return null;
+        }
+        for (ReadOnlyMetricRegistry registry : current) {
+            if (registry.name().equals(name)) {
+                return registry;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Value of a metric as a boxed primitive, or null if the registry has no such metric
+     */
+    public static Object value(ReadOnlyMetricRegistry registry, String name) {
+        Metric metric = registry.findMetric(name);
+        if (metric instanceof LongMetric) {
+            return ((LongMetric) metric).value();
+        }
+        if (metric instanceof IntMetric) {
+            return ((IntMetric) metric).value();
+        }
+        if (metric instanceof DoubleMetric) {
+            return ((DoubleMetric) metric).value();
+        }
+        if (metric instanceof BooleanMetric) {
+            return ((BooleanMetric) metric).value();
+        }
+        return metric != null ? metric.getAsString() : null;
+    }
+}
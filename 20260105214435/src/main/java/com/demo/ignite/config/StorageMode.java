@@ -0,0 +1,27 @@
+package com.demo.ignite.config;
+
+/**
+ * Storage Mode
+ * Selects how cache values are marshalled, configured with the ignite.storage.mode property
+ */
+public enum StorageMode {
+
+    /**
+     * Ignite binary format. Values can be read as BinaryObject (withKeepBinary)
+     * so filters and projections access single fields without deserializing the entity
+     */
+    BINARY,
+
+    /**
+     * Java serialization through JdkMarshaller. Compatibility mode matching the original setup;
+     * every read deserializes the whole entity and SQL indexing is not available
+     */
+    JDK;
+
+    /**
+     * Parse the ignite.storage.mode property value
+     */
+    public static StorageMode fromProperty(String value) {
+        return valueOf(value.trim().toUpperCase());
+    }
+}
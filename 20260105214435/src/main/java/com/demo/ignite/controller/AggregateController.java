@@ -0,0 +1,66 @@
+package com.demo.ignite.controller;
+
+import com.demo.ignite.service.AggregateService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Aggregate REST Controller
+ * Serves dashboard counters and histograms from materialized aggregates instead of cache scans
+ */
+@RestController
+@RequestMapping("/api/aggregates")
+@CrossOrigin(origins = "*")
+public class AggregateController {
+
+    @Autowired
+    private AggregateService aggregateService;
+
+    /**
+     * Get product aggregates
+     * GET /api/aggregates/products
+     */
+    @GetMapping("/products")
+    public ResponseEntity<Map<String, Object>> getProductAggregates() {
+        return ResponseEntity.ok(aggregateService.getProductAggregates());
+    }
+
+    /**
+     * Count products in a category
+     * GET /api/aggregates/products/categories/{category}
+     */
+    @GetMapping("/products/categories/{category}")
+    public ResponseEntity<Map<String, Object>> countProductsByCategory(@PathVariable String category) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("category", category);
+        response.put("count", aggregateService.countProductsByCategory(category));
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Get user aggregates
+     * GET /api/aggregates/users
+     */
+    @GetMapping("/users")
+    public ResponseEntity<Map<String, Object>> getUserAggregates() {
+        return ResponseEntity.ok(aggregateService.getUserAggregates());
+    }
+
+    /**
+     * Reload all aggregates from the caches
+     * POST /api/aggregates/rebuild
+     */
+    @PostMapping("/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuild() {
+        aggregateService.rebuildUsers();
+        aggregateService.rebuildProducts();
+        Map<String, Object> response = new HashMap<>();
+        response.put("users", aggregateService.getUserAggregates());
+        response.put("products", aggregateService.getProductAggregates());
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,45 @@
+package com.demo.ignite.controller;
+
+import com.demo.ignite.service.AnalyticsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * Analytics REST Controller
+ * Aggregates computed on the nodes that own the data (compute broadcast)
+ */
+@RestController
+@RequestMapping("/api/analytics")
+@CrossOrigin(origins = "*")
+public class AnalyticsController {
+
+    @Autowired
+    private AnalyticsService analyticsService;
+
+    /**
+     * Price statistics per category
+     * GET /api/analytics/products/price-by-category?minPrice=0&maxPrice=100
+     */
+    @GetMapping("/products/price-by-category")
+    public ResponseEntity<Map<String, Object>> getPriceStatsByCategory(
+            @RequestParam(required = false) Double minPrice,
+            @RequestParam(required = false) Double maxPrice) {
+        return ResponseEntity.ok(analyticsService.getPriceStatsByCategory(minPrice, maxPrice));
+    }
+
+    /**
+     * Age distribution of active users
+     * GET /api/analytics/users/active-age-distribution?bucketWidth=10
+     */
+    @GetMapping("/users/active-age-distribution")
+    public ResponseEntity<Map<String, Object>> getActiveUserAgeDistribution(
+            @RequestParam(defaultValue = "10") int bucketWidth) {
+        if (bucketWidth < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(analyticsService.getActiveUserAgeDistribution(bucketWidth));
+    }
+}
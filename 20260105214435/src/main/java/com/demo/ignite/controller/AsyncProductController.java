@@ -0,0 +1,91 @@
+package com.demo.ignite.controller;
+
+import com.demo.ignite.entity.Product;
+import com.demo.ignite.service.ProductService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Async Product REST Controller
+ * Key-based Product endpoints that return CompletableFuture: the servlet thread is released
+ * while Ignite completes the operation, and the response is written when the future completes
+ */
+@RestController
+@RequestMapping("/api/async/products")
+@CrossOrigin(origins = "*")
+public class AsyncProductController {
+
+    @Autowired
+    private ProductService productService;
+
+    /**
+     * Create or update a product
+     * POST /api/async/products
+     */
+    @PostMapping
+    public CompletableFuture<ResponseEntity<Product>> createProduct(@RequestBody Product product) {
+        if (product.getId() == null) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        }
+        return productService.saveProductAsync(product)
+                .thenApply(saved -> ResponseEntity.status(HttpStatus.CREATED).body(saved));
+    }
+
+    /**
+     * Get product by ID
+     * GET /api/async/products/{id}
+     */
+    @GetMapping("/{id}")
+    public CompletableFuture<ResponseEntity<Product>> getProductById(@PathVariable Long id) {
+        return productService.getProductByIdAsync(id)
+                .thenApply(product -> product == null
+                        ? ResponseEntity.notFound().<Product>build()
+                        : ResponseEntity.ok(product));
+    }
+
+    /**
+     * Get the products with the given IDs in request order, skipping unknown IDs
+     * GET /api/async/products?ids=1,2,3
+     */
+    @GetMapping(params = "ids")
+    public CompletableFuture<ResponseEntity<List<Product>>> getProductsByIds(@RequestParam List<Long> ids) {
+        Set<Long> keys = new LinkedHashSet<>(ids);
+        if (keys.isEmpty() || keys.size() > ListResponses.MAX_PAGE_SIZE) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        }
+        return productService.getProductsByIdsAsync(keys)
+                .thenApply(found -> ResponseEntity.ok(keys.stream()
+                        .map(found::get)
+                        .filter(Objects::nonNull)
+                        .toList()));
+    }
+
+    /**
+     * Delete product by ID
+     * DELETE /api/async/products/{id}
+     */
+    @DeleteMapping("/{id}")
+    public CompletableFuture<ResponseEntity<Void>> deleteProduct(@PathVariable Long id) {
+        return productService.deleteProductAsync(id)
+                .thenApply(removed -> removed
+                        ? ResponseEntity.noContent().<Void>build()
+                        : ResponseEntity.notFound().<Void>build());
+    }
+
+    /**
+     * Count total products
+     * GET /api/async/products/count
+     */
+    @GetMapping("/count")
+    public CompletableFuture<ResponseEntity<Long>> countProducts() {
+        return productService.countProductsAsync().thenApply(ResponseEntity::ok);
+    }
+}
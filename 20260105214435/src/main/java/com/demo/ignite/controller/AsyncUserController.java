@@ -0,0 +1,90 @@
+package com.demo.ignite.controller;
+
+import com.demo.ignite.entity.User;
+import com.demo.ignite.service.UserService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Async User REST Controller
+ * Key-based User endpoints backed by Ignite's async cache API
+ */
+@RestController
+@RequestMapping("/api/async/users")
+@CrossOrigin(origins = "*")
+public class AsyncUserController {
+
+    @Autowired
+    private UserService userService;
+
+    /**
+     * Create or update a user
+     * POST /api/async/users
+     */
+    @PostMapping
+    public CompletableFuture<ResponseEntity<User>> createUser(@RequestBody User user) {
+        if (user.getId() == null) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        }
+        return userService.saveUserAsync(user)
+                .thenApply(saved -> ResponseEntity.status(HttpStatus.CREATED).body(saved));
+    }
+
+    /**
+     * Get user by ID
+     * GET /api/async/users/{id}
+     */
+    @GetMapping("/{id}")
+    public CompletableFuture<ResponseEntity<User>> getUserById(@PathVariable Long id) {
+        return userService.getUserByIdAsync(id)
+                .thenApply(user -> user == null
+                        ? ResponseEntity.notFound().<User>build()
+                        : ResponseEntity.ok(user));
+    }
+
+    /**
+     * Get the users with the given IDs in request order, skipping unknown IDs
+     * GET /api/async/users?ids=1,2,3
+     */
+    @GetMapping(params = "ids")
+    public CompletableFuture<ResponseEntity<List<User>>> getUsersByIds(@RequestParam List<Long> ids) {
+        Set<Long> keys = new LinkedHashSet<>(ids);
+        if (keys.isEmpty() || keys.size() > ListResponses.MAX_PAGE_SIZE) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        }
+        return userService.getUsersByIdsAsync(keys)
+                .thenApply(found -> ResponseEntity.ok(keys.stream()
+                        .map(found::get)
+                        .filter(Objects::nonNull)
+                        .toList()));
+    }
+
+    /**
+     * Delete user by ID
+     * DELETE /api/async/users/{id}
+     */
+    @DeleteMapping("/{id}")
+    public CompletableFuture<ResponseEntity<Void>> deleteUser(@PathVariable Long id) {
+        return userService.deleteUserAsync(id)
+                .thenApply(removed -> removed
+                        ? ResponseEntity.noContent().<Void>build()
+                        : ResponseEntity.notFound().<Void>build());
+    }
+
+    /**
+     * Count total users
+     * GET /api/async/users/count
+     */
+    @GetMapping("/count")
+    public CompletableFuture<ResponseEntity<Long>> countUsers() {
+        return userService.countUsersAsync().thenApply(ResponseEntity::ok);
+    }
+}
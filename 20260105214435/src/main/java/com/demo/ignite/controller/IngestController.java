@@ -0,0 +1,126 @@
+package com.demo.ignite.controller;
+
+import com.demo.ignite.ingest.IngestFormat;
+import com.demo.ignite.ingest.IngestJob;
+import com.demo.ignite.ingest.IngestOptions;
+import com.demo.ignite.service.BulkIngestService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * Ingest REST Controller
+ * Bulk loads users and products from NDJSON or CSV request bodies through IgniteDataStreamer.
+ * The body is read as a stream, so uploads of any size are not buffered in memory
+ */
+@RestController
+@RequestMapping("/api/ingest")
+@CrossOrigin(origins = "*")
+public class IngestController {
+
+    @Autowired
+    private BulkIngestService bulkIngestService;
+
+    /**
+     * Bulk ingest products
+     * POST /api/ingest/products?format=ndjson&perNodeBufferSize=4096&perNodeParallelOperations=8&allowOverwrite=false
+     */
+    @PostMapping("/products")
+    public ResponseEntity<IngestJob> ingestProducts(
+            InputStream body,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) Integer perNodeBufferSize,
+            @RequestParam(required = false) Integer perNodeParallelOperations,
+            @RequestParam(required = false) Boolean allowOverwrite) throws IOException {
+        IngestFormat ingestFormat = parseFormat(format);
+        if (ingestFormat == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        IngestOptions options = options(perNodeBufferSize, perNodeParallelOperations, allowOverwrite);
+        if (options == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        IngestJob job = bulkIngestService.ingestProducts(body, ingestFormat, options);
+        return ResponseEntity.ok(job);
+    }
+
+    /**
+     * Bulk ingest users
+     * POST /api/ingest/users?format=csv
+     */
+    @PostMapping("/users")
+    public ResponseEntity<IngestJob> ingestUsers(
+            InputStream body,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) Integer perNodeBufferSize,
+            @RequestParam(required = false) Integer perNodeParallelOperations,
+            @RequestParam(required = false) Boolean allowOverwrite) throws IOException {
+        IngestFormat ingestFormat = parseFormat(format);
+        if (ingestFormat == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        IngestOptions options = options(perNodeBufferSize, perNodeParallelOperations, allowOverwrite);
+        if (options == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        IngestJob job = bulkIngestService.ingestUsers(body, ingestFormat, options);
+        return ResponseEntity.ok(job);
+    }
+
+    /**
+     * List recent ingest jobs with progress and throughput, including running ones
+     * GET /api/ingest/jobs
+     */
+    @GetMapping("/jobs")
+    public ResponseEntity<List<IngestJob>> getJobs() {
+        return ResponseEntity.ok(bulkIngestService.getJobs());
+    }
+
+    /**
+     * Get progress of a single ingest job
+     * GET /api/ingest/jobs/{id}
+     */
+    @GetMapping("/jobs/{id}")
+    public ResponseEntity<IngestJob> getJob(@PathVariable String id) {
+        IngestJob job = bulkIngestService.getJob(id);
+        if (job == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(job);
+    }
+
+    private IngestFormat parseFormat(String format) {
+        try {
+            return IngestFormat.fromParameter(format);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Apply request overrides on top of the configured streamer defaults
+     *
+     * @return null if an override is not positive
+     */
+    private IngestOptions options(Integer perNodeBufferSize, Integer perNodeParallelOperations, Boolean allowOverwrite) {
+        if ((perNodeBufferSize != null && perNodeBufferSize <= 0)
+                || (perNodeParallelOperations != null && perNodeParallelOperations <= 0)) {
+            return null;
+        }
+        IngestOptions options = bulkIngestService.defaultOptions();
+        if (perNodeBufferSize != null) {
+            options.setPerNodeBufferSize(perNodeBufferSize);
+        }
+        if (perNodeParallelOperations != null) {
+            options.setPerNodeParallelOperations(perNodeParallelOperations);
+        }
+        if (allowOverwrite != null) {
+            options.setAllowOverwrite(allowOverwrite);
+        }
+        return options;
+    }
+}
@@ -0,0 +1,60 @@
+package com.demo.ignite.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * List Responses
+ * Shared helpers for the paginated and streaming list endpoints
+ */
+final class ListResponses {
+
+    /**
+     * Default and maximum number of entries per keyset page
+     */
+    static final int DEFAULT_PAGE_SIZE = 100;
+    static final int MAX_PAGE_SIZE = 1000;
+
+    /**
+     * Maximum number of keys or entries in one batch request
+     */
+    static final int MAX_BATCH_SIZE = 500;
+
+    private static final byte[] NEWLINE = {'\n'};
+
+    private ListResponses() {
+    }
+
+    /**
+     * Clamp a requested page size to [1, MAX_PAGE_SIZE]
+     */
+    static int pageSize(int requested) {
+        return Math.max(1, Math.min(requested, MAX_PAGE_SIZE));
+    }
+
+    /**
+     * Stream every element produced by the source as one JSON document per line (NDJSON).
+     * Elements are written as the source visits them, so the response is never held in memory
+     */
+    static <T> StreamingResponseBody ndjson(ObjectMapper objectMapper, Consumer<Consumer<T>> source) {
+        return out -> {
+            try {
+                source.accept(element -> {
+                    try {
+                        out.write(objectMapper.writeValueAsBytes(element));
+                        out.write(NEWLINE);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            out.flush();
+        };
+    }
+}
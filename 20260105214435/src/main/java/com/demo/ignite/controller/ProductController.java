@@ -1,13 +1,21 @@
 package com.demo.ignite.controller;
 
 import com.demo.ignite.entity.Product;
+import com.demo.ignite.repository.BatchItem;
+import com.demo.ignite.repository.Page;
 import com.demo.ignite.service.ProductService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * Product REST Controller
@@ -21,6 +29,9 @@ public class ProductController {
     @Autowired
     private ProductService productService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     /**
      * Create or update a product
      * POST /api/products
@@ -34,6 +45,69 @@ public class ProductController {
         return ResponseEntity.status(HttpStatus.CREATED).body(savedProduct);
     }
 
+    /**
+     * Get several products in one round trip per partition owner
+     * GET /api/products/batch?ids=1,2,3
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<List<BatchItem<Product>>> getProductsByIds(@RequestParam List<Long> ids) {
+        if (!isValidBatch(ids)) {
+            return ResponseEntity.badRequest().build();
+        }
+        List<BatchItem<Product>> products = productService.getProductsByIds(ids);
+        return ResponseEntity.ok(products);
+    }
+
+    /**
+     * Create or update several products
+     * POST /api/products/batch
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<Map<String, Object>> createProducts(@RequestBody List<Product> products) {
+        if (!isValidBatch(products) || products.stream().anyMatch(product -> product.getId() == null)) {
+            return ResponseEntity.badRequest().build();
+        }
+        productService.saveProducts(products);
+        Map<String, Object> response = new HashMap<>();
+        response.put("saved", products.size());
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * Delete several products
+     * DELETE /api/products/batch?ids=1,2,3
+     */
+    @DeleteMapping("/batch")
+    public ResponseEntity<Void> deleteProducts(@RequestParam List<Long> ids) {
+        if (!isValidBatch(ids)) {
+            return ResponseEntity.badRequest().build();
+        }
+        productService.deleteProducts(ids);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Get one page of products ordered by ID (keyset pagination)
+     * GET /api/products/page?pageToken=100&size=100
+     */
+    @GetMapping("/page")
+    public ResponseEntity<Page<Product>> getProductPage(
+            @RequestParam(required = false) Long pageToken,
+            @RequestParam(defaultValue = "" + ListResponses.DEFAULT_PAGE_SIZE) int size) {
+        Page<Product> page = productService.getProductPage(pageToken, ListResponses.pageSize(size));
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Stream all products as NDJSON, one product per line
+     * GET /api/products/stream
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamProducts() {
+        StreamingResponseBody body = ListResponses.ndjson(objectMapper, productService::forEachProduct);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     /**
      * Get product by ID
      * GET /api/products/{id}
@@ -57,6 +131,19 @@ public class ProductController {
         return ResponseEntity.ok(products);
     }
 
+    /**
+     * Get all products with only the requested fields
+     * GET /api/products?fields=id,name
+     */
+    @GetMapping(params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> getAllProducts(@RequestParam List<String> fields) {
+        if (!productService.isProjectable(fields)) {
+            return ResponseEntity.badRequest().build();
+        }
+        List<Map<String, Object>> products = productService.getAllProducts(fields);
+        return ResponseEntity.ok(products);
+    }
+
     /**
      * Delete product by ID
      * DELETE /api/products/{id}
@@ -81,6 +168,19 @@ public class ProductController {
         return ResponseEntity.ok(products);
     }
 
+    /**
+     * Find products by category within a price range
+     * GET /api/products/search/category/{category}/price-range?minPrice=10.0&maxPrice=100.0
+     */
+    @GetMapping("/search/category/{category}/price-range")
+    public ResponseEntity<List<Product>> findByCategoryAndPriceRange(
+            @PathVariable String category,
+            @RequestParam Double minPrice,
+            @RequestParam Double maxPrice) {
+        List<Product> products = productService.findByCategoryAndPriceRange(category, minPrice, maxPrice);
+        return ResponseEntity.ok(products);
+    }
+
     /**
      * Get available products
      * GET /api/products/search/available
@@ -122,4 +222,11 @@ public class ProductController {
         productService.deleteAllProducts();
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * A batch must be non-empty, at most MAX_BATCH_SIZE long and contain no nulls
+     */
+    private static boolean isValidBatch(List<?> batch) {
+        return !batch.isEmpty() && batch.size() <= ListResponses.MAX_BATCH_SIZE && batch.stream().allMatch(Objects::nonNull);
+    }
 }
@@ -1,12 +1,21 @@
 package com.demo.ignite.controller;
 
+import com.demo.ignite.config.StorageMode;
 import com.demo.ignite.entity.Product;
 import com.demo.ignite.entity.User;
+import com.demo.ignite.repository.Page;
 import com.demo.ignite.service.ProductService;
+import com.demo.ignite.service.ExpiryService;
+import com.demo.ignite.service.StorageService;
+import com.demo.ignite.service.StoreService;
+import com.demo.ignite.service.UserSearchService;
 import com.demo.ignite.service.UserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.HashMap;
 import java.util.List;
@@ -27,6 +36,24 @@ public class TestController {
     @Autowired
     private ProductService productService;
 
+    @Autowired
+    private StorageService storageService;
+
+    @Autowired
+    private StoreService storeService;
+
+    @Autowired
+    private ExpiryService expiryService;
+
+    @Autowired
+    private UserSearchService userSearchService;
+
+    @Autowired
+    private StorageMode storageMode;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     /**
      * Get application status and cache statistics
      * GET /api/test/status
@@ -38,10 +65,40 @@ public class TestController {
         status.put("status", "running");
         status.put("totalUsers", userService.countUsers());
         status.put("totalProducts", productService.countProducts());
+        status.put("storageMode", storageMode.name().toLowerCase());
+        status.put("productHotTier", productService.getHotTierStats());
+        status.put("bioSearchCache", userSearchService.getCacheStats());
         status.put("description", "Apache Ignite in-memory SQL cache demo");
         return ResponseEntity.ok(status);
     }
 
+    /**
+     * Get persistence mode, cluster state and data region metrics
+     * GET /api/test/storage
+     */
+    @GetMapping("/storage")
+    public ResponseEntity<Map<String, Object>> getStorage() {
+        return ResponseEntity.ok(storageService.getStorageStats());
+    }
+
+    /**
+     * Get cache store latency and write-behind queue metrics
+     * GET /api/test/store
+     */
+    @GetMapping("/store")
+    public ResponseEntity<Map<String, Object>> getStore() {
+        return ResponseEntity.ok(storeService.getStoreStats());
+    }
+
+    /**
+     * Get TTL expiry and page eviction counts
+     * GET /api/test/expiry
+     */
+    @GetMapping("/expiry")
+    public ResponseEntity<Map<String, Object>> getExpiry() {
+        return ResponseEntity.ok(expiryService.getExpiryStats());
+    }
+
     /**
      * Test: Get all users
      * GET /api/test/users
@@ -52,6 +109,41 @@ public class TestController {
         return ResponseEntity.ok(users);
     }
 
+    /**
+     * Test: Get all users with only the requested fields
+     * GET /api/test/users?fields=id,username
+     */
+    @GetMapping(value = "/users", params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> getAllUsers(@RequestParam List<String> fields) {
+        if (!userService.isProjectable(fields)) {
+            return ResponseEntity.badRequest().build();
+        }
+        List<Map<String, Object>> users = userService.getAllUsers(fields);
+        return ResponseEntity.ok(users);
+    }
+
+    /**
+     * Test: Get one page of users ordered by ID (keyset pagination)
+     * GET /api/test/users/page?pageToken=100&size=100
+     */
+    @GetMapping("/users/page")
+    public ResponseEntity<Page<User>> getUserPage(
+            @RequestParam(required = false) Long pageToken,
+            @RequestParam(defaultValue = "" + ListResponses.DEFAULT_PAGE_SIZE) int size) {
+        Page<User> page = userService.getUserPage(pageToken, ListResponses.pageSize(size));
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Test: Stream all users as NDJSON, one user per line
+     * GET /api/test/users/stream
+     */
+    @GetMapping(value = "/users/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamUsers() {
+        StreamingResponseBody body = ListResponses.ndjson(objectMapper, userService::forEachUser);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     /**
      * Test: Get all products
      * GET /api/test/products
@@ -62,6 +154,41 @@ public class TestController {
         return ResponseEntity.ok(products);
     }
 
+    /**
+     * Test: Get all products with only the requested fields
+     * GET /api/test/products?fields=id,name
+     */
+    @GetMapping(value = "/products", params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> getAllProducts(@RequestParam List<String> fields) {
+        if (!productService.isProjectable(fields)) {
+            return ResponseEntity.badRequest().build();
+        }
+        List<Map<String, Object>> products = productService.getAllProducts(fields);
+        return ResponseEntity.ok(products);
+    }
+
+    /**
+     * Test: Get one page of products ordered by ID (keyset pagination)
+     * GET /api/test/products/page?pageToken=100&size=100
+     */
+    @GetMapping("/products/page")
+    public ResponseEntity<Page<Product>> getProductPage(
+            @RequestParam(required = false) Long pageToken,
+            @RequestParam(defaultValue = "" + ListResponses.DEFAULT_PAGE_SIZE) int size) {
+        Page<Product> page = productService.getProductPage(pageToken, ListResponses.pageSize(size));
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Test: Stream all products as NDJSON, one product per line
+     * GET /api/test/products/stream
+     */
+    @GetMapping(value = "/products/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamProducts() {
+        StreamingResponseBody body = ListResponses.ndjson(objectMapper, productService::forEachProduct);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     /**
      * Test: Find active users
      * GET /api/test/users/active
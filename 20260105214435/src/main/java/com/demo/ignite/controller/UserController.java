@@ -1,13 +1,19 @@
 package com.demo.ignite.controller;
 
 import com.demo.ignite.entity.User;
+import com.demo.ignite.repository.Page;
+import com.demo.ignite.service.UserSearchService;
 import com.demo.ignite.service.UserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * User REST Controller
@@ -21,6 +27,12 @@ public class UserController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private UserSearchService userSearchService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     /**
      * Create or update a user
      * POST /api/users
@@ -34,6 +46,28 @@ public class UserController {
         return ResponseEntity.status(HttpStatus.CREATED).body(savedUser);
     }
 
+    /**
+     * Get one page of users ordered by ID (keyset pagination)
+     * GET /api/users/page?pageToken=100&size=100
+     */
+    @GetMapping("/page")
+    public ResponseEntity<Page<User>> getUserPage(
+            @RequestParam(required = false) Long pageToken,
+            @RequestParam(defaultValue = "" + ListResponses.DEFAULT_PAGE_SIZE) int size) {
+        Page<User> page = userService.getUserPage(pageToken, ListResponses.pageSize(size));
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Stream all users as NDJSON, one user per line
+     * GET /api/users/stream
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamUsers() {
+        StreamingResponseBody body = ListResponses.ndjson(objectMapper, userService::forEachUser);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     /**
      * Get user by ID
      * GET /api/users/{id}
@@ -57,6 +91,19 @@ public class UserController {
         return ResponseEntity.ok(users);
     }
 
+    /**
+     * Get all users with only the requested fields
+     * GET /api/users?fields=id,name
+     */
+    @GetMapping(params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> getAllUsers(@RequestParam List<String> fields) {
+        if (!userService.isProjectable(fields)) {
+            return ResponseEntity.badRequest().build();
+        }
+        List<Map<String, Object>> users = userService.getAllUsers(fields);
+        return ResponseEntity.ok(users);
+    }
+
     /**
      * Delete user by ID
      * DELETE /api/users/{id}
@@ -91,6 +138,29 @@ public class UserController {
         return ResponseEntity.ok(users);
     }
 
+    /**
+     * Full-text search over user bios (Lucene query syntax), paginated
+     * GET /api/users/search/bio?q=spring&page=0&size=20
+     */
+    @GetMapping("/search/bio")
+    public ResponseEntity<List<User>> searchByBio(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        if (!userSearchService.isEnabled()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        if (q.isBlank() || page < 0 || size < 1 || size > ListResponses.MAX_PAGE_SIZE
+                || ((long) page + 1) * size > userSearchService.getMaxResults()) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(userSearchService.searchByBio(q, page, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     /**
      * Get active users
      * GET /api/users/search/active
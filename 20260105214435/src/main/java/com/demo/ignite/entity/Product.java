@@ -21,10 +21,12 @@ public class Product implements Serializable {
     @QuerySqlField
     private String description;
 
-    @QuerySqlField
+    @QuerySqlField(index = true, orderedGroups = {
+            @QuerySqlField.Group(name = "product_category_price_idx", order = 1)})
     private Double price;
 
-    @QuerySqlField
+    @QuerySqlField(index = true, orderedGroups = {
+            @QuerySqlField.Group(name = "product_category_price_idx", order = 0)})
     private String category;
 
     @QuerySqlField
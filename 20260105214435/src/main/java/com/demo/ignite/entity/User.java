@@ -28,10 +28,10 @@ public class User implements Serializable {
     @QueryTextField
     private String bio;
 
-    @QuerySqlField
+    @QuerySqlField(index = true)
     private Integer age;
 
-    @QuerySqlField
+    @QuerySqlField(index = true)
     private Boolean active;
 
     @QuerySqlField(index = true)
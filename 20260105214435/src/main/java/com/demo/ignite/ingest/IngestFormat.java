@@ -0,0 +1,25 @@
+package com.demo.ignite.ingest;
+
+/**
+ * Ingest Format
+ * Supported upload formats for bulk ingest
+ */
+public enum IngestFormat {
+
+    /**
+     * Newline-delimited JSON, one entity per line
+     */
+    NDJSON,
+
+    /**
+     * Comma-separated values with a header line of entity field names
+     */
+    CSV;
+
+    /**
+     * Parse the format request parameter
+     */
+    public static IngestFormat fromParameter(String value) {
+        return valueOf(value.trim().toUpperCase());
+    }
+}
@@ -0,0 +1,121 @@
+package com.demo.ignite.ingest;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ingest Job
+ * Progress and throughput of one bulk ingest run. Counters are updated by the ingesting
+ * thread and can be read concurrently by the progress endpoint
+ */
+public class IngestJob {
+
+    public enum Status {
+        RUNNING, COMPLETED, FAILED
+    }
+
+    private final String id;
+
+    private final String cacheName;
+
+    private final String source;
+
+    private final IngestOptions options;
+
+    private final long startedAt;
+
+    /**
+     * Rows handed to the streamer; without allowOverwrite, those whose key already exists are skipped by it
+     */
+    private final AtomicLong rowsSubmitted = new AtomicLong();
+
+    private final AtomicLong rowsRejected = new AtomicLong();
+
+    private volatile long finishedAt;
+
+    private volatile Status status = Status.RUNNING;
+
+    private volatile String error;
+
+    public IngestJob(String id, String cacheName, String source, IngestOptions options) {
+        this.id = id;
+        this.cacheName = cacheName;
+        this.source = source;
+        this.options = options;
+        this.startedAt = System.currentTimeMillis();
+    }
+
+    public void recordSubmitted() {
+        rowsSubmitted.incrementAndGet();
+    }
+
+    public void recordRejected() {
+        rowsRejected.incrementAndGet();
+    }
+
+    public void complete() {
+        finishedAt = System.currentTimeMillis();
+        status = Status.COMPLETED;
+    }
+
+    public void fail(String error) {
+        this.error = error;
+        finishedAt = System.currentTimeMillis();
+        status = Status.FAILED;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getCacheName() {
+        return cacheName;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public IngestOptions getOptions() {
+        return options;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public long getStartedAt() {
+        return startedAt;
+    }
+
+    public Long getFinishedAt() {
+        return finishedAt == 0 ? null : finishedAt;
+    }
+
+    public long getRowsSubmitted() {
+        return rowsSubmitted.get();
+    }
+
+    public long getRowsRejected() {
+        return rowsRejected.get();
+    }
+
+    /**
+     * Elapsed time so far, or total time once the job has finished
+     */
+    public long getElapsedMillis() {
+        long end = finishedAt == 0 ? System.currentTimeMillis() : finishedAt;
+        return end - startedAt;
+    }
+
+    /**
+     * Average throughput since the job started
+     */
+    public long getRowsPerSecond() {
+        long elapsed = Math.max(1, getElapsedMillis());
+        return getRowsSubmitted() * 1000 / elapsed;
+    }
+}
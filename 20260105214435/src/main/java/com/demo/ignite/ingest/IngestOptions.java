@@ -0,0 +1,65 @@
+package com.demo.ignite.ingest;
+
+/**
+ * Ingest Options
+ * IgniteDataStreamer tuning for a single ingest job
+ */
+public class IngestOptions {
+
+    /**
+     * Entries buffered per node before a batch is sent
+     */
+    private int perNodeBufferSize;
+
+    /**
+     * Batches in flight per node at the same time
+     */
+    private int perNodeParallelOperations;
+
+    /**
+     * Overwrite existing keys (slower, entries go through the regular cache update path)
+     */
+    private boolean allowOverwrite;
+
+    public IngestOptions() {
+    }
+
+    public IngestOptions(int perNodeBufferSize, int perNodeParallelOperations, boolean allowOverwrite) {
+        this.perNodeBufferSize = perNodeBufferSize;
+        this.perNodeParallelOperations = perNodeParallelOperations;
+        this.allowOverwrite = allowOverwrite;
+    }
+
+    public int getPerNodeBufferSize() {
+        return perNodeBufferSize;
+    }
+
+    public void setPerNodeBufferSize(int perNodeBufferSize) {
+        this.perNodeBufferSize = perNodeBufferSize;
+    }
+
+    public int getPerNodeParallelOperations() {
+        return perNodeParallelOperations;
+    }
+
+    public void setPerNodeParallelOperations(int perNodeParallelOperations) {
+        this.perNodeParallelOperations = perNodeParallelOperations;
+    }
+
+    public boolean isAllowOverwrite() {
+        return allowOverwrite;
+    }
+
+    public void setAllowOverwrite(boolean allowOverwrite) {
+        this.allowOverwrite = allowOverwrite;
+    }
+
+    @Override
+    public String toString() {
+        return "IngestOptions{" +
+                "perNodeBufferSize=" + perNodeBufferSize +
+                ", perNodeParallelOperations=" + perNodeParallelOperations +
+                ", allowOverwrite=" + allowOverwrite +
+                '}';
+    }
+}
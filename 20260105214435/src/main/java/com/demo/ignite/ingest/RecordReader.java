@@ -0,0 +1,132 @@
+package com.demo.ignite.ingest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Record Reader
+ * Reads entities line by line from an NDJSON or CSV upload without buffering the whole input.
+ * A line that cannot be parsed is returned as null so the caller can count it as rejected
+ */
+public class RecordReader<T> implements Iterator<T>, Closeable {
+
+    private final BufferedReader reader;
+
+    private final Class<T> type;
+
+    private final ObjectMapper objectMapper;
+
+    private final IngestFormat format;
+
+    private List<String> header;
+
+    private String nextLine;
+
+    public RecordReader(InputStream input, IngestFormat format, Class<T> type, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        this.format = format;
+        this.type = type;
+        this.objectMapper = objectMapper;
+        if (format == IngestFormat.CSV) {
+            String headerLine = readLine();
+            header = headerLine == null ? List.of() : splitCsv(headerLine);
+        }
+        nextLine = readLine();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return nextLine != null;
+    }
+
+    @Override
+    public T next() {
+        if (nextLine == null) {
+            throw new NoSuchElementException();
+        }
+        String line = nextLine;
+        nextLine = readLine();
+        try {
+            return format == IngestFormat.CSV ? parseCsv(line) : objectMapper.readValue(line, type);
+        } catch (IOException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Read the next non-blank line, or null at end of input
+     */
+    private String readLine() {
+        try {
+            String line;
+            do {
+                line = reader.readLine();
+            } while (line != null && line.isBlank());
+            return line;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private T parseCsv(String line) {
+        List<String> values = splitCsv(line);
+        if (values.size() != header.size()) {
+            throw new IllegalArgumentException("Expected " + header.size() + " columns but got " + values.size());
+        }
+        Map<String, String> fields = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String value = values.get(i);
+            fields.put(header.get(i), value.isEmpty() ? null : value);
+        }
+        return objectMapper.convertValue(fields, type);
+    }
+
+    /**
+     * Split a CSV line, honouring double-quoted values with "" as an escaped quote
+     */
+    static List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString().trim());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString().trim());
+        return values;
+    }
+}
@@ -0,0 +1,70 @@
+package com.demo.ignite.ingest;
+
+import com.demo.ignite.entity.Product;
+import com.demo.ignite.entity.User;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.LongFunction;
+
+/**
+ * Synthetic Data
+ * Generates deterministic users and products on the fly for benchmark seeding,
+ * so millions of rows can be ingested without materializing them
+ */
+public final class SyntheticData {
+
+    private static final String[] CATEGORIES = {
+            "Electronics", "Accessories", "Office Supplies", "Furniture", "Books",
+            "Toys", "Sports", "Garden", "Kitchen", "Clothing"
+    };
+
+    private SyntheticData() {
+    }
+
+    /**
+     * Products with IDs 1..count
+     */
+    public static Iterator<Product> products(long count) {
+        long createdAt = System.currentTimeMillis();
+        return generate(count, id -> new Product(id, "Product " + id,
+                "Synthetic product " + id,
+                (id * 7919 % 100000) / 100.0,
+                CATEGORIES[(int) (id % CATEGORIES.length)],
+                (int) (id % 500),
+                id % 10 != 0,
+                createdAt));
+    }
+
+    /**
+     * Users with IDs 1..count
+     */
+    public static Iterator<User> users(long count) {
+        long createdAt = System.currentTimeMillis();
+        return generate(count, id -> new User(id, "user_" + id, "user" + id + "@example.com",
+                "User " + id,
+                "Synthetic user " + id + " working with " + CATEGORIES[(int) (id % CATEGORIES.length)],
+                18 + (int) (id % 60),
+                id % 5 != 0,
+                createdAt));
+    }
+
+    private static <T> Iterator<T> generate(long count, LongFunction<T> factory) {
+        return new Iterator<>() {
+            private long next = 1;
+
+            @Override
+            public boolean hasNext() {
+                return next <= count;
+            }
+
+            @Override
+            public T next() {
+                if (next > count) {
+                    throw new NoSuchElementException();
+                }
+                return factory.apply(next++);
+            }
+        };
+    }
+}
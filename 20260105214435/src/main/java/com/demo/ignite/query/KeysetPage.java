@@ -0,0 +1,33 @@
+package com.demo.ignite.query;
+
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.query.SqlFieldsQuery;
+
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Keyset page over the _key index of a cache table.
+ * Shared by the SQL engine and by the scan engine in binary storage mode, where IgniteConfig
+ * registers a key-only table
+ */
+final class KeysetPage {
+
+    static final String PAGE_BY_KEY =
+            "SELECT _key, _val FROM %s WHERE _key > ? ORDER BY _key LIMIT ?";
+
+    private KeysetPage() {
+    }
+
+    /**
+     * Walk the primary key index from afterKey, so each page costs O(limit)
+     */
+    @SuppressWarnings("unchecked")
+    static <V> NavigableMap<Long, V> find(IgniteCache<Long, V> cache, String table, Long afterKey, int limit) {
+        SqlFieldsQuery query = new SqlFieldsQuery(String.format(PAGE_BY_KEY, table))
+                .setArgs(afterKey != null ? afterKey : Long.MIN_VALUE, limit);
+        NavigableMap<Long, V> page = new TreeMap<>();
+        cache.query(query).forEach(row -> page.put((Long) row.get(0), (V) row.get(1)));
+        return page;
+    }
+}
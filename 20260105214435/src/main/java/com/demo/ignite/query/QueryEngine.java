@@ -0,0 +1,60 @@
+package com.demo.ignite.query;
+
+import com.demo.ignite.entity.Product;
+import com.demo.ignite.entity.User;
+import org.apache.ignite.IgniteCache;
+
+import java.util.List;
+import java.util.NavigableMap;
+
+/**
+ * Query Engine
+ * Executes the filtered finders of the repositories against an Ignite cache.
+ * The implementation is selected with the ignite.query.engine property (scan or sql)
+ */
+public interface QueryEngine {
+
+    /**
+     * Engine name as configured in ignite.query.engine
+     */
+    String getName();
+
+    /**
+     * Find products by category
+     */
+    List<Product> findProductsByCategory(IgniteCache<Long, Product> cache, String category);
+
+    /**
+     * Find products by category within a price range
+     */
+    List<Product> findProductsByCategoryAndPriceRange(IgniteCache<Long, Product> cache, String category,
+                                                      Double minPrice, Double maxPrice);
+
+    /**
+     * Find available products
+     */
+    List<Product> findAvailableProducts(IgniteCache<Long, Product> cache);
+
+    /**
+     * Find products by price range
+     */
+    List<Product> findProductsByPriceRange(IgniteCache<Long, Product> cache, Double minPrice, Double maxPrice);
+
+    /**
+     * Find active users
+     */
+    List<User> findActiveUsers(IgniteCache<Long, User> cache);
+
+    /**
+     * Find users by age range
+     */
+    List<User> findUsersByAgeRange(IgniteCache<Long, User> cache, Integer minAge, Integer maxAge);
+
+    /**
+     * Find up to limit entries with a key greater than afterKey, ordered by key.
+     * A null afterKey starts from the first key
+     *
+     * @param table SQL table name of the cache value type (User or Product)
+     */
+    <V> NavigableMap<Long, V> findPage(IgniteCache<Long, V> cache, String table, Long afterKey, int limit);
+}
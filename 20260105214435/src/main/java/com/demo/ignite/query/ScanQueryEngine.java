@@ -0,0 +1,131 @@
+package com.demo.ignite.query;
+
+import com.demo.ignite.config.StorageMode;
+import com.demo.ignite.entity.Product;
+import com.demo.ignite.entity.User;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.binary.BinaryObject;
+import org.apache.ignite.cache.query.QueryCursor;
+import org.apache.ignite.cache.query.ScanQuery;
+import org.apache.ignite.lang.IgniteBiPredicate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.cache.Cache;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Scan Query Engine
+ * Evaluates every finder as a ScanQuery with a Java filter, visiting each cache entry.
+ * Needs no SQL indexes. In binary storage mode the filter reads single fields from the
+ * BinaryObject and only matching entries are deserialized.
+ * Pages are the exception: in binary storage mode IgniteConfig registers a key-only table,
+ * and findPage walks its _key index like the SQL engine
+ */
+@Component
+@ConditionalOnProperty(name = "ignite.query.engine", havingValue = "scan", matchIfMissing = true)
+public class ScanQueryEngine implements QueryEngine {
+
+    @Autowired
+    private StorageMode storageMode;
+
+    @Override
+    public String getName() {
+        return "scan";
+    }
+
+    @Override
+    public List<Product> findProductsByCategory(IgniteCache<Long, Product> cache, String category) {
+        return scan(cache,
+                (key, product) -> category.equals(product.getCategory()),
+                (key, product) -> category.equals(product.field("category")));
+    }
+
+    @Override
+    public List<Product> findProductsByCategoryAndPriceRange(IgniteCache<Long, Product> cache, String category,
+                                                             Double minPrice, Double maxPrice) {
+        return scan(cache,
+                (key, product) -> category.equals(product.getCategory()) &&
+                        inRange(product.getPrice(), minPrice, maxPrice),
+                (key, product) -> category.equals(product.field("category")) &&
+                        inRange(product.<Double>field("price"), minPrice, maxPrice));
+    }
+
+    @Override
+    public List<Product> findAvailableProducts(IgniteCache<Long, Product> cache) {
+        return scan(cache,
+                (key, product) -> Boolean.TRUE.equals(product.getAvailable()),
+                (key, product) -> Boolean.TRUE.equals(product.field("available")));
+    }
+
+    @Override
+    public List<Product> findProductsByPriceRange(IgniteCache<Long, Product> cache, Double minPrice, Double maxPrice) {
+        return scan(cache,
+                (key, product) -> inRange(product.getPrice(), minPrice, maxPrice),
+                (key, product) -> inRange(product.<Double>field("price"), minPrice, maxPrice));
+    }
+
+    @Override
+    public List<User> findActiveUsers(IgniteCache<Long, User> cache) {
+        return scan(cache,
+                (key, user) -> Boolean.TRUE.equals(user.getActive()),
+                (key, user) -> Boolean.TRUE.equals(user.field("active")));
+    }
+
+    @Override
+    public List<User> findUsersByAgeRange(IgniteCache<Long, User> cache, Integer minAge, Integer maxAge) {
+        return scan(cache,
+                (key, user) -> inRange(user.getAge(), minAge, maxAge),
+                (key, user) -> inRange(user.<Integer>field("age"), minAge, maxAge));
+    }
+
+    @Override
+    public <V> NavigableMap<Long, V> findPage(IgniteCache<Long, V> cache, String table, Long afterKey, int limit) {
+        if (storageMode == StorageMode.BINARY) {
+            // O(limit) per page instead of a full scan, so paging through the cache stays O(N)
+            return KeysetPage.find(cache, table, afterKey, limit);
+        }
+        // JDK storage has no SQL tables: every page is a full scan, so paging through the
+        // whole cache costs O(N * N / limit). Scans have no key order, so only the limit
+        // smallest keys seen are kept and memory stays O(limit)
+        long after = afterKey != null ? afterKey : Long.MIN_VALUE;
+        NavigableMap<Long, V> page = new TreeMap<>();
+        try (QueryCursor<Cache.Entry<Long, V>> cursor = cache.query(new ScanQuery<>((key, value) -> key > after))) {
+            for (Cache.Entry<Long, V> entry : cursor) {
+                if (page.size() < limit || entry.getKey() < page.lastKey()) {
+                    page.put(entry.getKey(), entry.getValue());
+                    if (page.size() > limit) {
+                        page.pollLastEntry();
+                    }
+                }
+            }
+        }
+        return page;
+    }
+
+    /**
+     * Run a ScanQuery and collect the matching values.
+     * Uses the binary filter in binary storage mode and the entity filter otherwise
+     */
+    private <V> List<V> scan(IgniteCache<Long, V> cache,
+                             IgniteBiPredicate<Long, V> filter,
+                             IgniteBiPredicate<Long, BinaryObject> binaryFilter) {
+        if (storageMode == StorageMode.BINARY) {
+            IgniteCache<Long, BinaryObject> binaryCache = cache.withKeepBinary();
+            return binaryCache.query(new ScanQuery<>(binaryFilter)).getAll().stream()
+                    .map(entry -> entry.getValue().<V>deserialize())
+                    .collect(Collectors.toList());
+        }
+        return cache.query(new ScanQuery<>(filter)).getAll().stream()
+                .map(Cache.Entry::getValue)
+                .collect(Collectors.toList());
+    }
+
+    private static <T extends Comparable<T>> boolean inRange(T value, T min, T max) {
+        return value != null && value.compareTo(min) >= 0 && value.compareTo(max) <= 0;
+    }
+}
@@ -0,0 +1,93 @@
+package com.demo.ignite.query;
+
+import com.demo.ignite.entity.Product;
+import com.demo.ignite.entity.User;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.query.SqlFieldsQuery;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+
+/**
+ * SQL Query Engine
+ * Evaluates every finder as a SqlFieldsQuery so that the @QuerySqlField indexes on
+ * category, price, available, age and active are used instead of a full cache scan.
+ * Requires the caches to be registered with indexed types (see IgniteConfig)
+ */
+@Component
+@ConditionalOnProperty(name = "ignite.query.engine", havingValue = "sql")
+public class SqlQueryEngine implements QueryEngine {
+
+    private static final String PRODUCT_BY_CATEGORY =
+            "SELECT _val FROM Product WHERE category = ?";
+
+    private static final String PRODUCT_BY_CATEGORY_AND_PRICE =
+            "SELECT _val FROM Product WHERE category = ? AND price BETWEEN ? AND ?";
+
+    private static final String PRODUCT_AVAILABLE =
+            "SELECT _val FROM Product WHERE available = TRUE";
+
+    private static final String PRODUCT_BY_PRICE =
+            "SELECT _val FROM Product WHERE price BETWEEN ? AND ?";
+
+    private static final String USER_ACTIVE =
+            "SELECT _val FROM User WHERE active = TRUE";
+
+    private static final String USER_BY_AGE =
+            "SELECT _val FROM User WHERE age BETWEEN ? AND ?";
+
+    @Override
+    public String getName() {
+        return "sql";
+    }
+
+    @Override
+    public List<Product> findProductsByCategory(IgniteCache<Long, Product> cache, String category) {
+        return select(cache, PRODUCT_BY_CATEGORY, category);
+    }
+
+    @Override
+    public List<Product> findProductsByCategoryAndPriceRange(IgniteCache<Long, Product> cache, String category,
+                                                             Double minPrice, Double maxPrice) {
+        return select(cache, PRODUCT_BY_CATEGORY_AND_PRICE, category, minPrice, maxPrice);
+    }
+
+    @Override
+    public List<Product> findAvailableProducts(IgniteCache<Long, Product> cache) {
+        return select(cache, PRODUCT_AVAILABLE);
+    }
+
+    @Override
+    public List<Product> findProductsByPriceRange(IgniteCache<Long, Product> cache, Double minPrice, Double maxPrice) {
+        return select(cache, PRODUCT_BY_PRICE, minPrice, maxPrice);
+    }
+
+    @Override
+    public List<User> findActiveUsers(IgniteCache<Long, User> cache) {
+        return select(cache, USER_ACTIVE);
+    }
+
+    @Override
+    public List<User> findUsersByAgeRange(IgniteCache<Long, User> cache, Integer minAge, Integer maxAge) {
+        return select(cache, USER_BY_AGE, minAge, maxAge);
+    }
+
+    @Override
+    public <V> NavigableMap<Long, V> findPage(IgniteCache<Long, V> cache, String table, Long afterKey, int limit) {
+        return KeysetPage.find(cache, table, afterKey, limit);
+    }
+
+    /**
+     * Run a single-column "SELECT _val" query and collect the values
+     */
+    @SuppressWarnings("unchecked")
+    private <V> List<V> select(IgniteCache<Long, V> cache, String sql, Object... args) {
+        SqlFieldsQuery query = new SqlFieldsQuery(sql).setArgs(args);
+        List<V> result = new ArrayList<>();
+        cache.query(query).forEach(row -> result.add((V) row.get(0)));
+        return result;
+    }
+}
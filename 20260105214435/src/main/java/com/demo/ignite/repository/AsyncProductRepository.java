@@ -0,0 +1,78 @@
+package com.demo.ignite.repository;
+
+import com.demo.ignite.entity.Product;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.IgniteCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static com.demo.ignite.repository.IgniteFutures.toCompletableFuture;
+
+/**
+ * Async Product Repository
+ * Non-blocking key-based operations on Product entities using Ignite's async cache API,
+ * so callers never park a thread while a remote partition answers
+ */
+@Repository
+public class AsyncProductRepository {
+
+    private static final String CACHE_NAME = "ProductCache";
+
+    @Autowired
+    private Ignite ignite;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    /**
+     * Get or create Product Cache
+     */
+    private IgniteCache<Long, Product> getProductCache() {
+        return ignite.getOrCreateCache(CACHE_NAME);
+    }
+
+    /**
+     * Save or update a product
+     */
+    public CompletableFuture<Product> save(Product product) {
+        return toCompletableFuture(getProductCache().putAsync(product.getId(), product))
+                .thenApply(ignored -> product);
+    }
+
+    /**
+     * Find product by ID, answering from the near or on-heap tier without a round trip when possible
+     */
+    public CompletableFuture<Product> findById(Long id) {
+        IgniteCache<Long, Product> cache = getProductCache();
+        Product hot = productRepository.peekHotTier(cache, id);
+        if (hot != null) {
+            return CompletableFuture.completedFuture(hot);
+        }
+        return toCompletableFuture(cache.getAsync(id));
+    }
+
+    /**
+     * Find the products with the given IDs; missing IDs are absent from the result
+     */
+    public CompletableFuture<Map<Long, Product>> findAllById(Set<Long> ids) {
+        return toCompletableFuture(getProductCache().getAllAsync(ids));
+    }
+
+    /**
+     * Delete product by ID, completing with false if it did not exist
+     */
+    public CompletableFuture<Boolean> deleteById(Long id) {
+        return toCompletableFuture(getProductCache().removeAsync(id));
+    }
+
+    /**
+     * Count all products
+     */
+    public CompletableFuture<Long> count() {
+        return toCompletableFuture(getProductCache().sizeAsync()).thenApply(Integer::longValue);
+    }
+}
@@ -0,0 +1,69 @@
+package com.demo.ignite.repository;
+
+import com.demo.ignite.entity.User;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.IgniteCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static com.demo.ignite.repository.IgniteFutures.toCompletableFuture;
+
+/**
+ * Async User Repository
+ * Async counterpart of UserRepository for key-based operations
+ */
+@Repository
+public class AsyncUserRepository {
+
+    private static final String CACHE_NAME = "UserCache";
+
+    @Autowired
+    private Ignite ignite;
+
+    /**
+     * Get or create User Cache
+     */
+    private IgniteCache<Long, User> getUserCache() {
+        return ignite.getOrCreateCache(CACHE_NAME);
+    }
+
+    /**
+     * Save or update a user
+     */
+    public CompletableFuture<User> save(User user) {
+        return toCompletableFuture(getUserCache().putAsync(user.getId(), user))
+                .thenApply(ignored -> user);
+    }
+
+    /**
+     * Find user by ID
+     */
+    public CompletableFuture<User> findById(Long id) {
+        return toCompletableFuture(getUserCache().getAsync(id));
+    }
+
+    /**
+     * Find the users with the given IDs; missing IDs are absent from the result
+     */
+    public CompletableFuture<Map<Long, User>> findAllById(Set<Long> ids) {
+        return toCompletableFuture(getUserCache().getAllAsync(ids));
+    }
+
+    /**
+     * Delete user by ID, completing with false if it did not exist
+     */
+    public CompletableFuture<Boolean> deleteById(Long id) {
+        return toCompletableFuture(getUserCache().removeAsync(id));
+    }
+
+    /**
+     * Count all users
+     */
+    public CompletableFuture<Long> count() {
+        return toCompletableFuture(getUserCache().sizeAsync()).thenApply(Integer::longValue);
+    }
+}
@@ -0,0 +1,30 @@
+package com.demo.ignite.repository;
+
+/**
+ * Batch Item
+ * Result of one key in a multi-key read, returned in request order.
+ * Missing keys have found = false and no value
+ */
+public class BatchItem<T> {
+
+    private final Long id;
+
+    private final T value;
+
+    public BatchItem(Long id, T value) {
+        this.id = id;
+        this.value = value;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public boolean isFound() {
+        return value != null;
+    }
+
+    public T getValue() {
+        return value;
+    }
+}
@@ -0,0 +1,61 @@
+package com.demo.ignite.repository;
+
+import org.apache.ignite.binary.BinaryObject;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Field Projector
+ * Builds a field-name to value map from a cache value, reading only the requested fields.
+ * Binary values are read field by field without deserializing the entity;
+ * plain entities (JDK storage mode) are read through their getters
+ */
+@Component
+public class FieldProjector {
+
+    /**
+     * Check that every requested field exists on the entity type
+     */
+    public boolean supports(Class<?> entityType, List<String> fields) {
+        if (fields == null || fields.isEmpty()) {
+            return false;
+        }
+        for (String name : fields) {
+            try {
+                Field field = entityType.getDeclaredField(name);
+                if (Modifier.isStatic(field.getModifiers())) {
+                    return false;
+                }
+            } catch (NoSuchFieldException e) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Project the requested fields of a cache value, keeping the requested order
+     */
+    public Map<String, Object> project(Object value, List<String> fields) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        if (value instanceof BinaryObject) {
+            BinaryObject binary = (BinaryObject) value;
+            for (String name : fields) {
+                row.put(name, binary.field(name));
+            }
+        } else {
+            BeanWrapper bean = new BeanWrapperImpl(value);
+            for (String name : fields) {
+                row.put(name, bean.getPropertyValue(name));
+            }
+        }
+        return row;
+    }
+}
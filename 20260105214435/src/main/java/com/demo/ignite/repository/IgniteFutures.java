@@ -0,0 +1,31 @@
+package com.demo.ignite.repository;
+
+import org.apache.ignite.lang.IgniteFuture;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Adapts Ignite async cache operations to CompletableFuture
+ */
+final class IgniteFutures {
+
+    private IgniteFutures() {
+    }
+
+    /**
+     * Complete a CompletableFuture when the Ignite future finishes.
+     * Ignite runs the listener on its async continuation executor (the common ForkJoinPool by default),
+     * never on a striped cache thread, so dependent stages may block safely
+     */
+    static <V> CompletableFuture<V> toCompletableFuture(IgniteFuture<V> igniteFuture) {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        igniteFuture.listen(done -> {
+            try {
+                future.complete(done.get());
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+}
@@ -0,0 +1,32 @@
+package com.demo.ignite.repository;
+
+import java.util.List;
+
+/**
+ * Page
+ * One page of a keyset-paginated read. The next page token is the last key of this page,
+ * or null when there are no more entries
+ */
+public class Page<T> {
+
+    private final List<T> items;
+
+    private final Long nextPageToken;
+
+    public Page(List<T> items, Long nextPageToken) {
+        this.items = items;
+        this.nextPageToken = nextPageToken;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public int getSize() {
+        return items.size();
+    }
+
+    public Long getNextPageToken() {
+        return nextPageToken;
+    }
+}
@@ -1,16 +1,30 @@
 package com.demo.ignite.repository;
 
 import com.demo.ignite.entity.Product;
+import com.demo.ignite.query.QueryEngine;
 import org.apache.ignite.Ignite;
 import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.CacheMetrics;
+import org.apache.ignite.cache.CachePeekMode;
+import org.apache.ignite.cache.query.QueryCursor;
 import org.apache.ignite.cache.query.ScanQuery;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
 import javax.cache.Cache;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 
 /**
  * Product Repository for Ignite Cache Operations
@@ -24,6 +38,39 @@ public class ProductRepository {
     @Autowired
     private Ignite ignite;
 
+    @Autowired
+    private QueryEngine queryEngine;
+
+    @Autowired
+    private FieldProjector fieldProjector;
+
+    /**
+     * Number of entries fetched per cursor page when streaming
+     */
+    @Value("${ignite.stream.page-size:1024}")
+    private int streamPageSize;
+
+    @Value("${ignite.store.enabled:false}")
+    private boolean storeEnabled;
+
+    @Value("${ignite.product-cache.near.enabled:false}")
+    private boolean nearCacheEnabled;
+
+    @Value("${ignite.product-cache.onheap.enabled:false}")
+    private boolean onheapCacheEnabled;
+
+    @Value("${ignite.store.read-through:true}")
+    private boolean storeReadThrough;
+
+    @Value("${ignite.product-cache.expiry.policy:none}")
+    private String expiryPolicy;
+
+    /**
+     * findById lookups served from / missed by the near or on-heap tier
+     */
+    private final LongAdder hotTierHits = new LongAdder();
+    private final LongAdder hotTierMisses = new LongAdder();
+
     /**
      * Get or create Product Cache
      */
@@ -45,7 +92,80 @@ public class ProductRepository {
      */
     public Product findById(Long id) {
         IgniteCache<Long, Product> cache = getProductCache();
-        return cache.get(id);
+        Product hot = peekHotTier(cache, id);
+        return hot != null ? hot : cache.get(id);
+    }
+
+    /**
+     * Find the products with the given IDs in one getAll, answering hot-tier hits locally.
+     * Results follow the request order; IDs without a product are returned as not found
+     */
+    public List<BatchItem<Product>> findAllById(List<Long> ids) {
+        IgniteCache<Long, Product> cache = getProductCache();
+        Map<Long, Product> found = new HashMap<>();
+        Set<Long> missing = new TreeSet<>();
+        for (Long id : ids) {
+            if (found.containsKey(id) || missing.contains(id)) {
+                continue;
+            }
+            Product hot = peekHotTier(cache, id);
+            if (hot != null) {
+                found.put(id, hot);
+            } else {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            found.putAll(cache.getAll(missing));
+        }
+        List<BatchItem<Product>> items = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            items.add(new BatchItem<>(id, found.get(id)));
+        }
+        return items;
+    }
+
+    /**
+     * Save or update several products in one putAll.
+     * Keys are sorted so concurrent batches lock entries in the same order and cannot deadlock
+     * (relevant if the cache is switched to TRANSACTIONAL); a later duplicate ID wins
+     */
+    public void saveAll(Collection<Product> products) {
+        Map<Long, Product> sorted = new TreeMap<>();
+        for (Product product : products) {
+            sorted.put(product.getId(), product);
+        }
+        getProductCache().putAll(sorted);
+    }
+
+    /**
+     * Look the product up in the near and on-heap tiers only, counting hits and misses.
+     * Returns null when no tier is enabled or the product is not held in one, and when peeks are
+     * not safe: a peek skips what get does besides reading, namely the access-time TTL refresh of
+     * an expiry policy, read-through and the cache statistics
+     */
+    Product peekHotTier(IgniteCache<Long, Product> cache, Long id) {
+        if (!isHotTierPeekable()) {
+            return null;
+        }
+        // Local peeks never go to the network or the off-heap region.
+        // Each tier is peeked on its own: combining NEAR and ONHEAP in one call matches neither
+        Product hot = nearCacheEnabled ? cache.localPeek(id, CachePeekMode.NEAR) : null;
+        if (hot == null && onheapCacheEnabled) {
+            hot = cache.localPeek(id, CachePeekMode.ONHEAP);
+        }
+        if (hot != null) {
+            hotTierHits.increment();
+        } else {
+            hotTierMisses.increment();
+        }
+        return hot;
+    }
+
+    private boolean isHotTierPeekable() {
+        return (nearCacheEnabled || onheapCacheEnabled)
+                && "none".equalsIgnoreCase(expiryPolicy.trim())
+                && !(storeEnabled && storeReadThrough);
     }
 
     /**
@@ -58,6 +178,47 @@ public class ProductRepository {
         return products;
     }
 
+    /**
+     * Find all products, reading only the requested fields.
+     * Values are read with withKeepBinary so no Product instance is built in binary storage mode
+     */
+    public List<Map<String, Object>> findAll(List<String> fields) {
+        IgniteCache<Long, Object> cache = getProductCache().withKeepBinary();
+        List<Map<String, Object>> rows = new ArrayList<>();
+        cache.forEach(entry -> rows.add(fieldProjector.project(entry.getValue(), fields)));
+        return rows;
+    }
+
+    /**
+     * Check that the requested fields exist on Product
+     */
+    public boolean isProjectable(List<String> fields) {
+        return fieldProjector.supports(Product.class, fields);
+    }
+
+    /**
+     * Find one page of products ordered by ID, starting after the given key
+     */
+    public Page<Product> findPage(Long afterKey, int size) {
+        NavigableMap<Long, Product> entries = queryEngine.findPage(getProductCache(), "Product", afterKey, size);
+        Long nextPageToken = entries.size() < size ? null : entries.lastKey();
+        return new Page<>(new ArrayList<>(entries.values()), nextPageToken);
+    }
+
+    /**
+     * Visit every product through a query cursor that fetches streamPageSize entries at a time,
+     * so only one cursor page is held in memory
+     */
+    public void forEach(Consumer<Product> action) {
+        ScanQuery<Long, Product> query = new ScanQuery<>();
+        query.setPageSize(streamPageSize);
+        try (QueryCursor<Cache.Entry<Long, Product>> cursor = getProductCache().query(query)) {
+            for (Cache.Entry<Long, Product> entry : cursor) {
+                action.accept(entry.getValue());
+            }
+        }
+    }
+
     /**
      * Delete product by ID
      */
@@ -66,41 +227,39 @@ public class ProductRepository {
         cache.remove(id);
     }
 
+    /**
+     * Delete several products in one removeAll, with keys sorted as in saveAll
+     */
+    public void deleteAllById(Collection<Long> ids) {
+        getProductCache().removeAll(new TreeSet<>(ids));
+    }
+
     /**
      * Find products by category
      */
     public List<Product> findByCategory(String category) {
-        IgniteCache<Long, Product> cache = getProductCache();
-        ScanQuery<Long, Product> query = new ScanQuery<>();
-        query.setFilter((key, product) -> category.equals(product.getCategory()));
-        return cache.query(query).getAll().stream()
-                .map(Cache.Entry::getValue)
-                .collect(Collectors.toList());
+        return queryEngine.findProductsByCategory(getProductCache(), category);
+    }
+
+    /**
+     * Find products by category within a price range
+     */
+    public List<Product> findByCategoryAndPriceRange(String category, Double minPrice, Double maxPrice) {
+        return queryEngine.findProductsByCategoryAndPriceRange(getProductCache(), category, minPrice, maxPrice);
     }
 
     /**
      * Find available products
      */
     public List<Product> findAvailableProducts() {
-        IgniteCache<Long, Product> cache = getProductCache();
-        ScanQuery<Long, Product> query = new ScanQuery<>();
-        query.setFilter((key, product) -> Boolean.TRUE.equals(product.getAvailable()));
-        return cache.query(query).getAll().stream()
-                .map(Cache.Entry::getValue)
-                .collect(Collectors.toList());
+        return queryEngine.findAvailableProducts(getProductCache());
     }
 
     /**
      * Find products by price range
      */
     public List<Product> findByPriceRange(Double minPrice, Double maxPrice) {
-        IgniteCache<Long, Product> cache = getProductCache();
-        ScanQuery<Long, Product> query = new ScanQuery<>();
-        query.setFilter((key, product) -> product.getPrice() != null &&
-                product.getPrice() >= minPrice && product.getPrice() <= maxPrice);
-        return cache.query(query).getAll().stream()
-                .map(Cache.Entry::getValue)
-                .collect(Collectors.toList());
+        return queryEngine.findProductsByPriceRange(getProductCache(), minPrice, maxPrice);
     }
 
     /**
@@ -110,11 +269,40 @@ public class ProductRepository {
         return (long) getProductCache().size();
     }
 
+    /**
+     * Hot tier statistics: lookup hit/miss ratio plus Ignite's eviction and heap entry counters
+     */
+    public Map<String, Object> getHotTierStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("nearCacheEnabled", nearCacheEnabled);
+        stats.put("onheapCacheEnabled", onheapCacheEnabled);
+        if (!nearCacheEnabled && !onheapCacheEnabled) {
+            return stats;
+        }
+        stats.put("localPeeks", isHotTierPeekable());
+        long hits = hotTierHits.sum();
+        long misses = hotTierMisses.sum();
+        stats.put("hits", hits);
+        stats.put("misses", misses);
+        stats.put("hitRatio", hits + misses == 0 ? 0.0 : (double) hits / (hits + misses));
+        IgniteCache<Long, Product> cache = getProductCache();
+        CacheMetrics metrics = cache.localMetrics();
+        stats.put("evictions", metrics.getCacheEvictions());
+        stats.put("onheapEntries", cache.localSize(CachePeekMode.ONHEAP));
+        stats.put("nearEntries", cache.localSize(CachePeekMode.NEAR));
+        return stats;
+    }
+
     /**
      * Clear all products
      */
     public void deleteAll() {
         IgniteCache<Long, Product> cache = getProductCache();
-        cache.clear();
+        if (storeEnabled) {
+            // clear() bypasses the cache store; removeAll() also deletes the rows behind the cache
+            cache.removeAll();
+        } else {
+            cache.clear();
+        }
     }
 }
@@ -1,16 +1,22 @@
 package com.demo.ignite.repository;
 
 import com.demo.ignite.entity.User;
+import com.demo.ignite.query.QueryEngine;
 import org.apache.ignite.Ignite;
 import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.query.QueryCursor;
 import org.apache.ignite.cache.query.ScanQuery;
+import org.apache.ignite.cache.query.TextQuery;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
 import javax.cache.Cache;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -25,6 +31,21 @@ public class UserRepository {
     @Autowired
     private Ignite ignite;
 
+    @Autowired
+    private QueryEngine queryEngine;
+
+    @Autowired
+    private FieldProjector fieldProjector;
+
+    /**
+     * Number of entries fetched per cursor page when streaming
+     */
+    @Value("${ignite.stream.page-size:1024}")
+    private int streamPageSize;
+
+    @Value("${ignite.store.enabled:false}")
+    private boolean storeEnabled;
+
     /**
      * Get or create User Cache
      */
@@ -59,6 +80,47 @@ public class UserRepository {
         return users;
     }
 
+    /**
+     * Find all users, reading only the requested fields.
+     * Values are read with withKeepBinary so no User instance is built in binary storage mode
+     */
+    public List<Map<String, Object>> findAll(List<String> fields) {
+        IgniteCache<Long, Object> cache = getUserCache().withKeepBinary();
+        List<Map<String, Object>> rows = new ArrayList<>();
+        cache.forEach(entry -> rows.add(fieldProjector.project(entry.getValue(), fields)));
+        return rows;
+    }
+
+    /**
+     * Check that the requested fields exist on User
+     */
+    public boolean isProjectable(List<String> fields) {
+        return fieldProjector.supports(User.class, fields);
+    }
+
+    /**
+     * Find one page of users ordered by ID, starting after the given key
+     */
+    public Page<User> findPage(Long afterKey, int size) {
+        NavigableMap<Long, User> entries = queryEngine.findPage(getUserCache(), "User", afterKey, size);
+        Long nextPageToken = entries.size() < size ? null : entries.lastKey();
+        return new Page<>(new ArrayList<>(entries.values()), nextPageToken);
+    }
+
+    /**
+     * Visit every user through a query cursor that fetches streamPageSize entries at a time,
+     * so only one cursor page is held in memory
+     */
+    public void forEach(Consumer<User> action) {
+        ScanQuery<Long, User> query = new ScanQuery<>();
+        query.setPageSize(streamPageSize);
+        try (QueryCursor<Cache.Entry<Long, User>> cursor = getUserCache().query(query)) {
+            for (Cache.Entry<Long, User> entry : cursor) {
+                action.accept(entry.getValue());
+            }
+        }
+    }
+
     /**
      * Delete user by ID
      */
@@ -92,28 +154,28 @@ public class UserRepository {
     }
 
     /**
-     * Find active users
+     * Full-text search over the Lucene-indexed bio field, returning at most limit users.
+     * The text uses Lucene query syntax, e.g. "java AND spring"
      */
-    public List<User> findActiveUsers() {
-        IgniteCache<Long, User> cache = getUserCache();
-        ScanQuery<Long, User> query = new ScanQuery<>();
-        query.setFilter((key, user) -> Boolean.TRUE.equals(user.getActive()));
-        return cache.query(query).getAll().stream()
+    public List<User> searchByBio(String text, int limit) {
+        TextQuery<Long, User> query = new TextQuery<>(User.class, text, limit);
+        return getUserCache().query(query).getAll().stream()
                 .map(Cache.Entry::getValue)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Find active users
+     */
+    public List<User> findActiveUsers() {
+        return queryEngine.findActiveUsers(getUserCache());
+    }
+
     /**
      * Find users by age range
      */
     public List<User> findByAgeRange(Integer minAge, Integer maxAge) {
-        IgniteCache<Long, User> cache = getUserCache();
-        ScanQuery<Long, User> query = new ScanQuery<>();
-        query.setFilter((key, user) -> user.getAge() != null &&
-                user.getAge() >= minAge && user.getAge() <= maxAge);
-        return cache.query(query).getAll().stream()
-                .map(Cache.Entry::getValue)
-                .collect(Collectors.toList());
+        return queryEngine.findUsersByAgeRange(getUserCache(), minAge, maxAge);
     }
 
     /**
@@ -128,6 +190,11 @@ public class UserRepository {
      */
     public void deleteAll() {
         IgniteCache<Long, User> cache = getUserCache();
-        cache.clear();
+        if (storeEnabled) {
+            // clear() bypasses the cache store; removeAll() also deletes the rows behind the cache
+            cache.removeAll();
+        } else {
+            cache.clear();
+        }
     }
 }
@@ -0,0 +1,57 @@
+package com.demo.ignite.service;
+
+import com.demo.ignite.aggregate.ProductAggregates;
+import com.demo.ignite.aggregate.UserAggregates;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+
+/**
+ * Aggregate Service
+ * Serves the materialized user and product aggregates maintained by continuous queries
+ */
+@Service
+public class AggregateService {
+
+    @Autowired
+    private ProductAggregates productAggregates;
+
+    @Autowired
+    private UserAggregates userAggregates;
+
+    /**
+     * Product totals, available count, per-category counts and price histogram
+     */
+    public Map<String, Object> getProductAggregates() {
+        return productAggregates.snapshot();
+    }
+
+    /**
+     * Number of products in a category
+     */
+    public long countProductsByCategory(String category) {
+        return productAggregates.getCategoryCount(category);
+    }
+
+    /**
+     * User totals, active count and age histogram
+     */
+    public Map<String, Object> getUserAggregates() {
+        return userAggregates.snapshot();
+    }
+
+    /**
+     * Reload product aggregates from the cache (after changes that bypass continuous queries)
+     */
+    public void rebuildProducts() {
+        productAggregates.rebuild();
+    }
+
+    /**
+     * Reload user aggregates from the cache (after changes that bypass continuous queries)
+     */
+    public void rebuildUsers() {
+        userAggregates.rebuild();
+    }
+}
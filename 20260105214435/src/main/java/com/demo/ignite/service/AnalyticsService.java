@@ -0,0 +1,71 @@
+package com.demo.ignite.service;
+
+import com.demo.ignite.analytics.ActiveUserAgeTask;
+import com.demo.ignite.analytics.CategoryPriceTask;
+import com.demo.ignite.analytics.PriceStats;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.IgniteCompute;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Analytics Service
+ * Computes aggregates next to the data: a task is broadcast to every server node,
+ * each node scans only its primary partitions and returns a partial aggregate,
+ * and the partials are merged here. Only one small result per node crosses the network
+ */
+@Service
+public class AnalyticsService {
+
+    @Autowired
+    private Ignite ignite;
+
+    /**
+     * Count, sum, min, max and average price per category, optionally within a price range
+     */
+    public Map<String, Object> getPriceStatsByCategory(Double minPrice, Double maxPrice) {
+        Collection<Map<String, PriceStats>> partials = serverCompute()
+                .broadcast(new CategoryPriceTask(minPrice, maxPrice));
+
+        Map<String, PriceStats> merged = new TreeMap<>();
+        for (Map<String, PriceStats> partial : partials) {
+            partial.forEach((category, stats) -> merged.merge(category, stats, (left, right) -> {
+                left.merge(right);
+                return left;
+            }));
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("nodes", partials.size());
+        result.put("categories", merged);
+        return result;
+    }
+
+    /**
+     * Number of active users per age bucket
+     */
+    public Map<String, Object> getActiveUserAgeDistribution(int bucketWidth) {
+        Collection<Map<Integer, Long>> partials = serverCompute()
+                .broadcast(new ActiveUserAgeTask(bucketWidth));
+
+        Map<Integer, Long> merged = new TreeMap<>();
+        for (Map<Integer, Long> partial : partials) {
+            partial.forEach((bucket, count) -> merged.merge(bucket, count, Long::sum));
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("nodes", partials.size());
+        result.put("bucketWidth", bucketWidth);
+        result.put("distribution", merged);
+        return result;
+    }
+
+    private IgniteCompute serverCompute() {
+        return ignite.compute(ignite.cluster().forServers());
+    }
+}
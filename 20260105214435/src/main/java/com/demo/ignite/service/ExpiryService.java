@@ -0,0 +1,122 @@
+package com.demo.ignite.service;
+
+import com.demo.ignite.config.MetricRegistrySpi;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.events.CacheEvent;
+import org.apache.ignite.events.EventType;
+import org.apache.ignite.lang.IgnitePredicate;
+import org.apache.ignite.spi.metric.ReadOnlyMetricRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Expiry Service
+ * Counts entries removed by TTL expiry, from local cache events that IgniteConfig enables only
+ * when expiry is configured. Page eviction raises no per-entry event, so the default data region
+ * is reported by its eviction rate and memory use instead
+ */
+@Service
+public class ExpiryService {
+
+    private static final String[] CACHES = {"UserCache", "ProductCache"};
+
+    @Autowired
+    private Ignite ignite;
+
+    @Autowired
+    private MetricRegistrySpi metricRegistry;
+
+    @Value("${ignite.user-cache.expiry.policy:none}")
+    private String userExpiryPolicy;
+
+    @Value("${ignite.user-cache.expiry.ttl-seconds:0}")
+    private long userExpiryTtlSeconds;
+
+    @Value("${ignite.product-cache.expiry.policy:none}")
+    private String productExpiryPolicy;
+
+    @Value("${ignite.product-cache.expiry.ttl-seconds:0}")
+    private long productExpiryTtlSeconds;
+
+    @Value("${ignite.data-region.page-eviction-mode:DISABLED}")
+    private String pageEvictionMode;
+
+    @Value("${ignite.data-region.eviction-threshold:0.9}")
+    private double evictionThreshold;
+
+    /**
+     * Expired entries per cache, counted on the primary node only so backups do not double count
+     */
+    private final Map<String, LongAdder> expired = new ConcurrentHashMap<>();
+
+    private IgnitePredicate<CacheEvent> listener;
+
+    @PostConstruct
+    public void start() {
+        if (isNone(userExpiryPolicy) && isNone(productExpiryPolicy)) {
+            return;
+        }
+        listener = event -> {
+            if (ignite.affinity(event.cacheName()).isPrimary(ignite.cluster().localNode(), event.key())) {
+                expired.computeIfAbsent(event.cacheName(), name -> new LongAdder()).increment();
+            }
+            return true;
+        };
+        ignite.events().localListen(listener, EventType.EVT_CACHE_OBJECT_EXPIRED);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (listener != null) {
+            ignite.events().stopLocalListen(listener);
+        }
+    }
+
+    /**
+     * Per cache: expiry settings, size and expired count; for the region: eviction settings,
+     * evicted pages per second and memory use against the cap
+     */
+    public Map<String, Object> getExpiryStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        for (String cacheName : CACHES) {
+            boolean user = cacheName.equals("UserCache");
+            String policy = user ? userExpiryPolicy : productExpiryPolicy;
+            Map<String, Object> cache = new LinkedHashMap<>();
+            cache.put("expiryPolicy", policy);
+            if (!isNone(policy)) {
+                cache.put("ttlSeconds", user ? userExpiryTtlSeconds : productExpiryTtlSeconds);
+            }
+            cache.put("size", ignite.cache(cacheName).size());
+            LongAdder expiredCount = expired.get(cacheName);
+            cache.put("expired", expiredCount == null ? 0 : expiredCount.sum());
+            stats.put(cacheName, cache);
+        }
+
+        DataRegionConfiguration regionCfg =
+                ignite.configuration().getDataStorageConfiguration().getDefaultDataRegionConfiguration();
+        ReadOnlyMetricRegistry region = metricRegistry.registry("io.dataregion." + regionCfg.getName());
+        Map<String, Object> regionStats = new LinkedHashMap<>();
+        regionStats.put("pageEvictionMode", pageEvictionMode);
+        regionStats.put("evictionThreshold", evictionThreshold);
+        if (region != null) {
+            regionStats.put("evictionRate", MetricRegistrySpi.value(region, "EvictionRate"));
+            regionStats.put("offheapUsedSize", MetricRegistrySpi.value(region, "OffheapUsedSize"));
+            regionStats.put("maxSize", regionCfg.getMaxSize());
+        }
+        stats.put("dataRegion", regionStats);
+        return stats;
+    }
+
+    private static boolean isNone(String policy) {
+        return "none".equalsIgnoreCase(policy.trim());
+    }
+}
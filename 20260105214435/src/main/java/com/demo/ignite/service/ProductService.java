@@ -1,11 +1,18 @@
 package com.demo.ignite.service;
 
 import com.demo.ignite.entity.Product;
+import com.demo.ignite.repository.AsyncProductRepository;
+import com.demo.ignite.repository.BatchItem;
+import com.demo.ignite.repository.Page;
 import com.demo.ignite.repository.ProductRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * Product Service
@@ -17,6 +24,12 @@ public class ProductService {
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private AsyncProductRepository asyncProductRepository;
+
+    @Autowired
+    private AggregateService aggregateService;
+
     /**
      * Create or update a product
      */
@@ -38,6 +51,55 @@ public class ProductService {
         return productRepository.findAll();
     }
 
+    /**
+     * Get all products projected to the requested fields
+     */
+    public List<Map<String, Object>> getAllProducts(List<String> fields) {
+        return productRepository.findAll(fields);
+    }
+
+    /**
+     * Check that the requested fields can be projected
+     */
+    public boolean isProjectable(List<String> fields) {
+        return productRepository.isProjectable(fields);
+    }
+
+    /**
+     * Get one page of products after the given page token
+     */
+    public Page<Product> getProductPage(Long pageToken, int size) {
+        return productRepository.findPage(pageToken, size);
+    }
+
+    /**
+     * Visit all products with a bounded cursor
+     */
+    public void forEachProduct(Consumer<Product> action) {
+        productRepository.forEach(action);
+    }
+
+    /**
+     * Get several products by ID, in request order with missing IDs marked
+     */
+    public List<BatchItem<Product>> getProductsByIds(List<Long> ids) {
+        return productRepository.findAllById(ids);
+    }
+
+    /**
+     * Create or update several products
+     */
+    public void saveProducts(List<Product> products) {
+        productRepository.saveAll(products);
+    }
+
+    /**
+     * Delete several products by ID
+     */
+    public void deleteProducts(List<Long> ids) {
+        productRepository.deleteAllById(ids);
+    }
+
     /**
      * Delete product by ID
      */
@@ -52,6 +114,13 @@ public class ProductService {
         return productRepository.findByCategory(category);
     }
 
+    /**
+     * Find products by category within a price range
+     */
+    public List<Product> findByCategoryAndPriceRange(String category, Double minPrice, Double maxPrice) {
+        return productRepository.findByCategoryAndPriceRange(category, minPrice, maxPrice);
+    }
+
     /**
      * Get available products
      */
@@ -73,10 +142,54 @@ public class ProductService {
         return productRepository.count();
     }
 
+    /**
+     * Create or update a product without blocking
+     */
+    public CompletableFuture<Product> saveProductAsync(Product product) {
+        return asyncProductRepository.save(product);
+    }
+
+    /**
+     * Get product by ID without blocking
+     */
+    public CompletableFuture<Product> getProductByIdAsync(Long id) {
+        return asyncProductRepository.findById(id);
+    }
+
+    /**
+     * Get the products with the given IDs without blocking
+     */
+    public CompletableFuture<Map<Long, Product>> getProductsByIdsAsync(Set<Long> ids) {
+        return asyncProductRepository.findAllById(ids);
+    }
+
+    /**
+     * Delete product by ID without blocking, completing with false if it did not exist
+     */
+    public CompletableFuture<Boolean> deleteProductAsync(Long id) {
+        return asyncProductRepository.deleteById(id);
+    }
+
+    /**
+     * Count total products without blocking
+     */
+    public CompletableFuture<Long> countProductsAsync() {
+        return asyncProductRepository.count();
+    }
+
+    /**
+     * Get product hot tier (near / on-heap cache) statistics
+     */
+    public Map<String, Object> getHotTierStats() {
+        return productRepository.getHotTierStats();
+    }
+
     /**
      * Delete all products
      */
     public void deleteAllProducts() {
         productRepository.deleteAll();
+        // cache.clear() does not notify continuous queries
+        aggregateService.rebuildProducts();
     }
 }
@@ -0,0 +1,91 @@
+package com.demo.ignite.service;
+
+import com.demo.ignite.config.MetricRegistrySpi;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.spi.metric.ReadOnlyMetricRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Storage Service
+ * Reports cluster state and data region metrics of the embedded node,
+ * read from the io.dataregion.&lt;region&gt; metric registries
+ */
+@Service
+public class StorageService {
+
+    private static final String[] REGION_METRICS = {
+            "TotalAllocatedPages", "TotalAllocatedSize", "OffHeapSize", "OffheapUsedSize", "PagesFillFactor",
+            "PhysicalMemoryPages", "PhysicalMemorySize", "EvictionRate"};
+
+    private static final String[] PERSISTENCE_METRICS = {
+            "DirtyPages", "PagesRead", "PagesWritten", "PagesReplaced", "PagesReplaceRate",
+            "CheckpointBufferSize", "UsedCheckpointBufferSize"};
+
+    @Autowired
+    private Ignite ignite;
+
+    @Autowired
+    private MetricRegistrySpi metricRegistry;
+
+    @Value("${ignite.persistence.enabled:false}")
+    private boolean persistenceEnabled;
+
+    /**
+     * Persistence mode, cluster state and per-region memory and page metrics
+     */
+    public Map<String, Object> getStorageStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("persistenceEnabled", persistenceEnabled);
+        stats.put("clusterState", ignite.cluster().state().name());
+
+        // Only the configured regions; Ignite's internal system regions are skipped
+        List<Map<String, Object>> regions = new ArrayList<>();
+        for (String name : configuredRegionNames()) {
+            ReadOnlyMetricRegistry metrics = metricRegistry.registry("io.dataregion." + name);
+            if (metrics == null) {
+                continue;
+            }
+            Map<String, Object> region = new LinkedHashMap<>();
+            region.put("name", name);
+            putMetrics(region, metrics, REGION_METRICS);
+            if (persistenceEnabled) {
+                putMetrics(region, metrics, PERSISTENCE_METRICS);
+            }
+            regions.add(region);
+        }
+        stats.put("dataRegions", regions);
+        return stats;
+    }
+
+    /**
+     * Put each metric under its name with a lower-case first letter, as the former getters were reported
+     */
+    private static void putMetrics(Map<String, Object> region, ReadOnlyMetricRegistry metrics, String[] names) {
+        for (String name : names) {
+            region.put(Character.toLowerCase(name.charAt(0)) + name.substring(1), MetricRegistrySpi.value(metrics, name));
+        }
+    }
+
+    private Set<String> configuredRegionNames() {
+        Set<String> names = new LinkedHashSet<>();
+        DataStorageConfiguration storageCfg = ignite.configuration().getDataStorageConfiguration();
+        names.add(storageCfg.getDefaultDataRegionConfiguration().getName());
+        if (storageCfg.getDataRegionConfigurations() != null) {
+            for (DataRegionConfiguration regionCfg : storageCfg.getDataRegionConfigurations()) {
+                names.add(regionCfg.getName());
+            }
+        }
+        return names;
+    }
+}
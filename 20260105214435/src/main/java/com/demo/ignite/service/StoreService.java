@@ -0,0 +1,59 @@
+package com.demo.ignite.service;
+
+import com.demo.ignite.store.StoreMetrics;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.cache.CacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Store Service
+ * Reports cache store latency and this node's write-behind queue for UserCache and ProductCache
+ */
+@Service
+public class StoreService {
+
+    private static final String[] CACHES = {"UserCache", "ProductCache"};
+
+    @Autowired
+    private Ignite ignite;
+
+    @Value("${ignite.store.enabled:false}")
+    private boolean storeEnabled;
+
+    /**
+     * Store operation latency plus write-behind queue depth, settings and overflow counters
+     */
+    public Map<String, Object> getStoreStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("storeEnabled", storeEnabled);
+        if (!storeEnabled) {
+            return stats;
+        }
+        for (String cacheName : CACHES) {
+            CacheMetrics metrics = ignite.cache(cacheName).localMetrics();
+            Map<String, Object> cache = new LinkedHashMap<>();
+            cache.put("cacheMisses", metrics.getCacheMisses());
+            cache.put("writeBehindEnabled", metrics.isWriteBehindEnabled());
+            if (metrics.isWriteBehindEnabled()) {
+                Map<String, Object> writeBehind = new LinkedHashMap<>();
+                writeBehind.put("queueSize", metrics.getWriteBehindBufferSize());
+                writeBehind.put("flushSize", metrics.getWriteBehindFlushSize());
+                writeBehind.put("flushFrequencyMs", metrics.getWriteBehindFlushFrequency());
+                writeBehind.put("flushThreads", metrics.getWriteBehindFlushThreadCount());
+                writeBehind.put("batchSize", metrics.getWriteBehindStoreBatchSize());
+                writeBehind.put("criticalOverflows", metrics.getWriteBehindCriticalOverflowCount());
+                writeBehind.put("totalCriticalOverflows", metrics.getWriteBehindTotalCriticalOverflowCount());
+                writeBehind.put("errorRetries", metrics.getWriteBehindErrorRetryCount());
+                cache.put("writeBehind", writeBehind);
+            }
+            cache.put("operations", StoreMetrics.forCache(cacheName).snapshot());
+            stats.put(cacheName, cache);
+        }
+        return stats;
+    }
+}
@@ -0,0 +1,207 @@
+package com.demo.ignite.service;
+
+import com.demo.ignite.entity.User;
+import com.demo.ignite.repository.UserRepository;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.cache.query.ContinuousQuery;
+import org.apache.ignite.cache.query.QueryCursor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import javax.cache.Cache;
+import javax.cache.CacheException;
+import javax.cache.event.CacheEntryEvent;
+import javax.cache.event.EventType;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * User Search Service
+ * Full-text search over User.bio with a small LRU cache of recent results.
+ * A continuous query on UserCache invalidates cached results when users change:
+ * any create, remove or bio change clears the cache, other updates drop only
+ * the results that contain the changed user
+ */
+@Service
+public class UserSearchService {
+
+    @Autowired
+    private Ignite ignite;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${ignite.search.full-text.enabled:false}")
+    private boolean enabled;
+
+    @Value("${ignite.search.result-cache-size:256}")
+    private int resultCacheSize;
+
+    /**
+     * Upper bound on the matches fetched for one query, i.e. on page * size
+     */
+    @Value("${ignite.search.max-results:1000}")
+    private int maxResults;
+
+    private Map<String, List<User>> results;
+
+    /**
+     * Bumped by every invalidation, guarded by results; a query that overlapped one does not cache its page
+     */
+    private long generation;
+
+    private QueryCursor<Cache.Entry<Long, User>> listener;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    @PostConstruct
+    public void start() {
+        results = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, List<User>> eldest) {
+                return size() > resultCacheSize;
+            }
+        };
+        if (!enabled) {
+            return;
+        }
+        ContinuousQuery<Long, User> query = new ContinuousQuery<>();
+        query.setIncludeExpired(true);
+        query.setLocalListener(this::onUpdated);
+        IgniteCache<Long, User> cache = ignite.cache("UserCache");
+        listener = cache.query(query);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (listener != null) {
+            try {
+                listener.close();
+            } catch (IgniteException e) {
+                // Ignite's shutdown hook may stop the node first; the query is gone with it
+            }
+        }
+    }
+
+    /**
+     * Whether full-text search is configured (ignite.search.full-text.enabled)
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Largest page * size a search can reach
+     */
+    public int getMaxResults() {
+        return maxResults;
+    }
+
+    /**
+     * Search bios and return one page (0-based) of matches.
+     * Throws IllegalArgumentException for text that is not valid Lucene query syntax
+     */
+    public List<User> searchByBio(String text, int page, int size) {
+        String key = page + ":" + size + ":" + text.trim();
+        long startGeneration;
+        synchronized (results) {
+            List<User> cached = results.get(key);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+            startGeneration = generation;
+        }
+        misses.increment();
+
+        // In long: page * size overflows int for large pages, and the result is capped anyway
+        long from = (long) page * size;
+        List<User> matches;
+        try {
+            matches = userRepository.searchByBio(text, (int) Math.min(from + size, maxResults));
+        } catch (CacheException e) {
+            if (isQuerySyntaxError(e)) {
+                throw new IllegalArgumentException("Invalid full-text query: " + text, e);
+            }
+            throw e;
+        }
+        List<User> pageItems = from >= matches.size()
+                ? List.of()
+                : List.copyOf(matches.subList((int) from, (int) Math.min(from + size, matches.size())));
+        synchronized (results) {
+            if (generation == startGeneration) {
+                results.put(key, pageItems);
+            }
+        }
+        return pageItems;
+    }
+
+    /**
+     * Drop all cached results (after changes that bypass continuous queries)
+     */
+    public void invalidateAll() {
+        synchronized (results) {
+            results.clear();
+            generation++;
+        }
+        invalidations.increment();
+    }
+
+    /**
+     * Result cache hit/miss and invalidation counters
+     */
+    public Map<String, Object> getCacheStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        synchronized (results) {
+            stats.put("entries", results.size());
+        }
+        stats.put("hits", hits.sum());
+        stats.put("misses", misses.sum());
+        stats.put("invalidations", invalidations.sum());
+        return stats;
+    }
+
+    private static boolean isQuerySyntaxError(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause.getClass().getSimpleName().equals("ParseException")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void onUpdated(Iterable<CacheEntryEvent<? extends Long, ? extends User>> events) {
+        for (CacheEntryEvent<? extends Long, ? extends User> event : events) {
+            if (changesMatches(event)) {
+                invalidateAll();
+                continue;
+            }
+            Long id = event.getKey();
+            synchronized (results) {
+                results.values().removeIf(users -> users.stream().anyMatch(user -> id.equals(user.getId())));
+                generation++;
+            }
+        }
+    }
+
+    /**
+     * Whether the event can change which users match a query
+     */
+    private static boolean changesMatches(CacheEntryEvent<? extends Long, ? extends User> event) {
+        if (event.getEventType() != EventType.UPDATED || event.getOldValue() == null) {
+            return true;
+        }
+        return !Objects.equals(event.getOldValue().getBio(), event.getValue().getBio());
+    }
+}
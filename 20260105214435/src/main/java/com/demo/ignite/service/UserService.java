@@ -1,11 +1,17 @@
 package com.demo.ignite.service;
 
 import com.demo.ignite.entity.User;
+import com.demo.ignite.repository.AsyncUserRepository;
+import com.demo.ignite.repository.Page;
 import com.demo.ignite.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * User Service
@@ -17,6 +23,15 @@ public class UserService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private AsyncUserRepository asyncUserRepository;
+
+    @Autowired
+    private AggregateService aggregateService;
+
+    @Autowired
+    private UserSearchService userSearchService;
+
     /**
      * Create or update a user
      */
@@ -38,6 +53,34 @@ public class UserService {
         return userRepository.findAll();
     }
 
+    /**
+     * Get all users projected to the requested fields
+     */
+    public List<Map<String, Object>> getAllUsers(List<String> fields) {
+        return userRepository.findAll(fields);
+    }
+
+    /**
+     * Check that the requested fields can be projected
+     */
+    public boolean isProjectable(List<String> fields) {
+        return userRepository.isProjectable(fields);
+    }
+
+    /**
+     * Get one page of users after the given page token
+     */
+    public Page<User> getUserPage(Long pageToken, int size) {
+        return userRepository.findPage(pageToken, size);
+    }
+
+    /**
+     * Visit all users with a bounded cursor
+     */
+    public void forEachUser(Consumer<User> action) {
+        userRepository.forEach(action);
+    }
+
     /**
      * Delete user by ID
      */
@@ -80,10 +123,48 @@ public class UserService {
         return userRepository.count();
     }
 
+    /**
+     * Create or update a user without blocking
+     */
+    public CompletableFuture<User> saveUserAsync(User user) {
+        return asyncUserRepository.save(user);
+    }
+
+    /**
+     * Get user by ID without blocking
+     */
+    public CompletableFuture<User> getUserByIdAsync(Long id) {
+        return asyncUserRepository.findById(id);
+    }
+
+    /**
+     * Get the users with the given IDs without blocking
+     */
+    public CompletableFuture<Map<Long, User>> getUsersByIdsAsync(Set<Long> ids) {
+        return asyncUserRepository.findAllById(ids);
+    }
+
+    /**
+     * Delete user by ID without blocking, completing with false if it did not exist
+     */
+    public CompletableFuture<Boolean> deleteUserAsync(Long id) {
+        return asyncUserRepository.deleteById(id);
+    }
+
+    /**
+     * Count total users without blocking
+     */
+    public CompletableFuture<Long> countUsersAsync() {
+        return asyncUserRepository.count();
+    }
+
     /**
      * Delete all users
      */
     public void deleteAllUsers() {
         userRepository.deleteAll();
+        // cache.clear() does not notify continuous queries
+        aggregateService.rebuildUsers();
+        userSearchService.invalidateAll();
     }
 }
@@ -0,0 +1,214 @@
+package com.demo.ignite.store;
+
+import org.apache.ignite.cache.store.CacheStoreAdapter;
+import org.apache.ignite.lang.IgniteBiInClosure;
+
+import javax.cache.Cache;
+import javax.cache.integration.CacheLoaderException;
+import javax.cache.integration.CacheWriterException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC Entity Store
+ * Cache store over one table keyed by a BIGINT ID column. Ignite calls it on read-through misses,
+ * from the write-behind flusher (writeAll/deleteAll batches) and from loadCache for warm start.
+ * Subclasses map the entity to the table's columns
+ */
+public abstract class JdbcEntityStore<V> extends CacheStoreAdapter<Long, V> {
+
+    /**
+     * Keys per IN list when loading several entries
+     */
+    private static final int LOAD_CHUNK_SIZE = 500;
+
+    private final String url;
+
+    private final String user;
+
+    private final String password;
+
+    private final StoreMetrics metrics;
+
+    private final String selectColumns;
+
+    private final String mergeSql;
+
+    protected JdbcEntityStore(String cacheName, String url, String user, String password) {
+        this.url = url;
+        this.user = user;
+        this.password = password;
+        this.metrics = StoreMetrics.forCache(cacheName);
+        this.selectColumns = String.join(", ", columns());
+        this.mergeSql = "MERGE INTO " + table() + " (" + selectColumns + ") KEY (ID) VALUES ("
+                + String.join(", ", Collections.nCopies(columns().length, "?")) + ")";
+    }
+
+    /**
+     * Backing table name
+     */
+    protected abstract String table();
+
+    /**
+     * Table columns in bind order, starting with ID
+     */
+    protected abstract String[] columns();
+
+    /**
+     * Build the entity from the current row
+     */
+    protected abstract V read(ResultSet rs) throws SQLException;
+
+    /**
+     * Bind the entity to the merge statement's parameters, in column order
+     */
+    protected abstract void bind(PreparedStatement stmt, Long id, V value) throws SQLException;
+
+    @Override
+    public V load(Long key) {
+        long start = System.nanoTime();
+        try (Connection conn = connection();
+             PreparedStatement stmt = conn.prepareStatement(
+                     "SELECT " + selectColumns + " FROM " + table() + " WHERE ID = ?")) {
+            stmt.setLong(1, key);
+            try (ResultSet rs = stmt.executeQuery()) {
+                V value = rs.next() ? read(rs) : null;
+                metrics.record("load", value == null ? 0 : 1, start);
+                return value;
+            }
+        } catch (SQLException e) {
+            throw new CacheLoaderException("Failed to load " + table() + " " + key, e);
+        }
+    }
+
+    @Override
+    public Map<Long, V> loadAll(Iterable<? extends Long> keys) {
+        long start = System.nanoTime();
+        List<Long> ids = new ArrayList<>();
+        keys.forEach(ids::add);
+        Map<Long, V> loaded = new HashMap<>();
+        try (Connection conn = connection()) {
+            for (int from = 0; from < ids.size(); from += LOAD_CHUNK_SIZE) {
+                List<Long> chunk = ids.subList(from, Math.min(from + LOAD_CHUNK_SIZE, ids.size()));
+                String sql = "SELECT " + selectColumns + " FROM " + table() + " WHERE ID IN ("
+                        + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")";
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        stmt.setLong(i + 1, chunk.get(i));
+                    }
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            loaded.put(rs.getLong("ID"), read(rs));
+                        }
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new CacheLoaderException("Failed to load " + ids.size() + " rows from " + table(), e);
+        }
+        metrics.record("loadAll", loaded.size(), start);
+        return loaded;
+    }
+
+    /**
+     * Stream every row into the cache; Ignite keeps the entries whose partitions this node owns
+     */
+    @Override
+    public void loadCache(IgniteBiInClosure<Long, V> clo, Object... args) {
+        long start = System.nanoTime();
+        int rows = 0;
+        try (Connection conn = connection();
+             PreparedStatement stmt = conn.prepareStatement("SELECT " + selectColumns + " FROM " + table())) {
+            stmt.setFetchSize(LOAD_CHUNK_SIZE);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    clo.apply(rs.getLong("ID"), read(rs));
+                    rows++;
+                }
+            }
+        } catch (SQLException e) {
+            throw new CacheLoaderException("Failed to load " + table(), e);
+        }
+        metrics.record("loadCache", rows, start);
+    }
+
+    @Override
+    public void write(Cache.Entry<? extends Long, ? extends V> entry) {
+        long start = System.nanoTime();
+        try (Connection conn = connection(); PreparedStatement stmt = conn.prepareStatement(mergeSql)) {
+            bind(stmt, entry.getKey(), entry.getValue());
+            stmt.executeUpdate();
+        } catch (SQLException e) {
+            throw new CacheWriterException("Failed to write " + table() + " " + entry.getKey(), e);
+        }
+        metrics.record("write", 1, start);
+    }
+
+    /**
+     * Merge a write-behind batch in one JDBC batch and transaction. Written entries are removed
+     * from the collection, as the CacheWriter contract requires; on failure Ignite retries them all
+     */
+    @Override
+    public void writeAll(Collection<Cache.Entry<? extends Long, ? extends V>> entries) {
+        long start = System.nanoTime();
+        int rows = entries.size();
+        try (Connection conn = connection(); PreparedStatement stmt = conn.prepareStatement(mergeSql)) {
+            conn.setAutoCommit(false);
+            for (Cache.Entry<? extends Long, ? extends V> entry : entries) {
+                bind(stmt, entry.getKey(), entry.getValue());
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+            conn.commit();
+        } catch (SQLException e) {
+            throw new CacheWriterException("Failed to write " + rows + " rows to " + table(), e);
+        }
+        entries.clear();
+        metrics.record("writeAll", rows, start);
+    }
+
+    @Override
+    public void delete(Object key) {
+        long start = System.nanoTime();
+        try (Connection conn = connection();
+             PreparedStatement stmt = conn.prepareStatement("DELETE FROM " + table() + " WHERE ID = ?")) {
+            stmt.setLong(1, (Long) key);
+            stmt.executeUpdate();
+        } catch (SQLException e) {
+            throw new CacheWriterException("Failed to delete " + table() + " " + key, e);
+        }
+        metrics.record("delete", 1, start);
+    }
+
+    @Override
+    public void deleteAll(Collection<?> keys) {
+        long start = System.nanoTime();
+        int rows = keys.size();
+        try (Connection conn = connection();
+             PreparedStatement stmt = conn.prepareStatement("DELETE FROM " + table() + " WHERE ID = ?")) {
+            conn.setAutoCommit(false);
+            for (Object key : keys) {
+                stmt.setLong(1, (Long) key);
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+            conn.commit();
+        } catch (SQLException e) {
+            throw new CacheWriterException("Failed to delete " + rows + " rows from " + table(), e);
+        }
+        keys.clear();
+        metrics.record("deleteAll", rows, start);
+    }
+
+    private Connection connection() throws SQLException {
+        return StoreDataSources.connection(url, user, password);
+    }
+}
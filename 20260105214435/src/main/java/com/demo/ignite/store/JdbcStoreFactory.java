@@ -0,0 +1,50 @@
+package com.demo.ignite.store;
+
+import org.apache.ignite.cache.store.CacheStore;
+
+import javax.cache.configuration.Factory;
+
+/**
+ * JDBC Store Factory
+ * Serializable factory set on the cache configuration; each node uses it to create its own
+ * store instance for UserCache or ProductCache
+ */
+public class JdbcStoreFactory implements Factory<CacheStore<Long, Object>> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String cacheName;
+
+    private final String url;
+
+    private final String user;
+
+    private final String password;
+
+    public JdbcStoreFactory(String cacheName, String url, String user, String password) {
+        this.cacheName = cacheName;
+        this.url = url;
+        this.user = user;
+        this.password = password;
+    }
+
+    /**
+     * The caches are declared with Object values, so the typed store is returned as such
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public CacheStore<Long, Object> create() {
+        CacheStore<Long, ?> store;
+        switch (cacheName) {
+            case "UserCache":
+                store = new UserCacheStore(url, user, password);
+                break;
+            case "ProductCache":
+                store = new ProductCacheStore(url, user, password);
+                break;
+            default:
+                throw new IllegalArgumentException("No cache store for " + cacheName);
+        }
+        return (CacheStore<Long, Object>) store;
+    }
+}
@@ -0,0 +1,53 @@
+package com.demo.ignite.store;
+
+import com.demo.ignite.entity.Product;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Product Cache Store
+ * Maps ProductCache entries to the PRODUCTS table
+ */
+public class ProductCacheStore extends JdbcEntityStore<Product> {
+
+    private static final String[] COLUMNS = {
+            "ID", "NAME", "DESCRIPTION", "PRICE", "CATEGORY", "STOCK", "AVAILABLE", "CREATED_AT"
+    };
+
+    public ProductCacheStore(String url, String user, String password) {
+        super("ProductCache", url, user, password);
+    }
+
+    @Override
+    protected String table() {
+        return "PRODUCTS";
+    }
+
+    @Override
+    protected String[] columns() {
+        return COLUMNS;
+    }
+
+    @Override
+    protected Product read(ResultSet rs) throws SQLException {
+        return new Product(rs.getLong("ID"), rs.getString("NAME"), rs.getString("DESCRIPTION"),
+                rs.getObject("PRICE", Double.class), rs.getString("CATEGORY"),
+                rs.getObject("STOCK", Integer.class), rs.getObject("AVAILABLE", Boolean.class),
+                rs.getObject("CREATED_AT", Long.class));
+    }
+
+    @Override
+    protected void bind(PreparedStatement stmt, Long id, Product product) throws SQLException {
+        stmt.setLong(1, id);
+        stmt.setString(2, product.getName());
+        stmt.setString(3, product.getDescription());
+        stmt.setObject(4, product.getPrice(), Types.DOUBLE);
+        stmt.setString(5, product.getCategory());
+        stmt.setObject(6, product.getStock(), Types.INTEGER);
+        stmt.setObject(7, product.getAvailable(), Types.BOOLEAN);
+        stmt.setObject(8, product.getCreatedAt(), Types.BIGINT);
+    }
+}
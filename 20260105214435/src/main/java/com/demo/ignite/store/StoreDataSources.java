@@ -0,0 +1,50 @@
+package com.demo.ignite.store;
+
+import org.h2.jdbcx.JdbcConnectionPool;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Store Data Sources
+ * One H2 connection pool per JDBC URL, shared by every store instance Ignite creates on this node.
+ * The backing tables are created when a pool is first opened. Pools live until the JVM exits, so the
+ * write-behind flush on node shutdown can still reach the database
+ */
+public final class StoreDataSources {
+
+    private static final String[] SCHEMA = {
+            "CREATE TABLE IF NOT EXISTS PRODUCTS (ID BIGINT PRIMARY KEY, NAME VARCHAR, DESCRIPTION VARCHAR, "
+                    + "PRICE DOUBLE, CATEGORY VARCHAR, STOCK INT, AVAILABLE BOOLEAN, CREATED_AT BIGINT)",
+            "CREATE TABLE IF NOT EXISTS USERS (ID BIGINT PRIMARY KEY, USERNAME VARCHAR, EMAIL VARCHAR, "
+                    + "FULL_NAME VARCHAR, BIO VARCHAR, AGE INT, ACTIVE BOOLEAN, CREATED_AT BIGINT)"
+    };
+
+    private static final Map<String, JdbcConnectionPool> POOLS = new ConcurrentHashMap<>();
+
+    private StoreDataSources() {
+    }
+
+    /**
+     * Borrow a connection from the pool for the given database
+     */
+    public static Connection connection(String url, String user, String password) throws SQLException {
+        return POOLS.computeIfAbsent(url, key -> open(key, user, password)).getConnection();
+    }
+
+    private static JdbcConnectionPool open(String url, String user, String password) {
+        JdbcConnectionPool pool = JdbcConnectionPool.create(url, user, password);
+        try (Connection conn = pool.getConnection(); Statement stmt = conn.createStatement()) {
+            for (String ddl : SCHEMA) {
+                stmt.execute(ddl);
+            }
+        } catch (SQLException e) {
+            pool.dispose();
+            throw new IllegalStateException("Failed to initialize cache store database " + url, e);
+        }
+        return pool;
+    }
+}
@@ -0,0 +1,72 @@
+package com.demo.ignite.store;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Store Metrics
+ * Call counts, row counts and latency of the cache store operations, per cache.
+ * Ignite instantiates stores itself, so the metrics live in a static registry keyed by cache name
+ */
+public final class StoreMetrics {
+
+    private static final Map<String, StoreMetrics> REGISTRY = new ConcurrentHashMap<>();
+
+    private final Map<String, Operation> operations = new ConcurrentHashMap<>();
+
+    private StoreMetrics() {
+    }
+
+    /**
+     * Metrics of the given cache's store
+     */
+    public static StoreMetrics forCache(String cacheName) {
+        return REGISTRY.computeIfAbsent(cacheName, name -> new StoreMetrics());
+    }
+
+    /**
+     * Record one store call that touched the given number of rows
+     */
+    void record(String operation, int rows, long startNanos) {
+        operations.computeIfAbsent(operation, name -> new Operation()).record(rows, System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Per operation: calls, rows, average and maximum latency in milliseconds
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        operations.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> snapshot.put(entry.getKey(), entry.getValue().snapshot()));
+        return snapshot;
+    }
+
+    private static final class Operation {
+
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        void record(int rowCount, long nanos) {
+            calls.increment();
+            rows.add(rowCount);
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        Map<String, Object> snapshot() {
+            long callCount = calls.sum();
+            Map<String, Object> snapshot = new LinkedHashMap<>();
+            snapshot.put("calls", callCount);
+            snapshot.put("rows", rows.sum());
+            snapshot.put("avgLatencyMs", callCount == 0 ? 0.0 : totalNanos.sum() / 1_000_000.0 / callCount);
+            snapshot.put("maxLatencyMs", maxNanos.get() / 1_000_000.0);
+            return snapshot;
+        }
+    }
+}
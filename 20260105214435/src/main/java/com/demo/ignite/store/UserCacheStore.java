@@ -0,0 +1,52 @@
+package com.demo.ignite.store;
+
+import com.demo.ignite.entity.User;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * User Cache Store
+ * Maps UserCache entries to the USERS table
+ */
+public class UserCacheStore extends JdbcEntityStore<User> {
+
+    private static final String[] COLUMNS = {
+            "ID", "USERNAME", "EMAIL", "FULL_NAME", "BIO", "AGE", "ACTIVE", "CREATED_AT"
+    };
+
+    public UserCacheStore(String url, String user, String password) {
+        super("UserCache", url, user, password);
+    }
+
+    @Override
+    protected String table() {
+        return "USERS";
+    }
+
+    @Override
+    protected String[] columns() {
+        return COLUMNS;
+    }
+
+    @Override
+    protected User read(ResultSet rs) throws SQLException {
+        return new User(rs.getLong("ID"), rs.getString("USERNAME"), rs.getString("EMAIL"),
+                rs.getString("FULL_NAME"), rs.getString("BIO"), rs.getObject("AGE", Integer.class),
+                rs.getObject("ACTIVE", Boolean.class), rs.getObject("CREATED_AT", Long.class));
+    }
+
+    @Override
+    protected void bind(PreparedStatement stmt, Long id, User user) throws SQLException {
+        stmt.setLong(1, id);
+        stmt.setString(2, user.getUsername());
+        stmt.setString(3, user.getEmail());
+        stmt.setString(4, user.getFullName());
+        stmt.setString(5, user.getBio());
+        stmt.setObject(6, user.getAge(), Types.INTEGER);
+        stmt.setObject(7, user.getActive(), Types.BOOLEAN);
+        stmt.setObject(8, user.getCreatedAt(), Types.BIGINT);
+    }
+}
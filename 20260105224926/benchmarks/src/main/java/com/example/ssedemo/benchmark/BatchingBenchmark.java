@@ -0,0 +1,209 @@
+package com.example.ssedemo.benchmark;
+
+import com.example.ssedemo.SseDemoApplication;
+import com.example.ssedemo.model.SseEvent;
+import com.example.ssedemo.service.SseEmitterService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Batching Benchmark
+ * Broadcasts a burst of notifications to real SSE connections and waits until every client
+ * has read all of them, with the batching window off (0) and on.
+ *
+ * After each iteration it prints per delivered event: emitter writes, write syscalls of the
+ * process (syscw from /proc/self/io, Linux only) and process CPU time. Clients run in the
+ * same JVM and read the same bytes either way, so the differences are the server's
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class BatchingBenchmark {
+
+    /**
+     * Connections opened before waiting for them to register, to stay within the accept backlog
+     */
+    private static final int CONNECT_BATCH = 100;
+
+    private static final String MARKER = "\"eventType\":\"BENCH\"";
+
+    @Param({"0", "10"})
+    private long windowMs;
+
+    @Param({"1000"})
+    private int clients;
+
+    /**
+     * Events broadcast back to back per operation
+     */
+    @Param({"10"})
+    private int burst;
+
+    private ConfigurableApplicationContext context;
+
+    private SseEmitterService emitterService;
+
+    private SseEvent event;
+
+    private final LongAdder delivered = new LongAdder();
+
+    private long deliveredBefore;
+    private long writesBefore;
+    private long syscallsBefore;
+    private long cpuBefore;
+
+    @Setup(Level.Trial)
+    public void connectClients() throws InterruptedException {
+        context = new SpringApplicationBuilder(SseDemoApplication.class).run(
+                "--server.port=0",
+                "--sse.batching.window-ms=" + windowMs,
+                "--sse.batching.immediate-topics=",
+                "--logging.level.com.example.ssedemo=WARN");
+        emitterService = context.getBean(SseEmitterService.class);
+        String url = "http://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port")
+                + context.getEnvironment().getProperty("server.servlet.context-path", "") + "/api/sse/subscribe";
+
+        HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        for (int i = 0; i < clients; i++) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(url + "?topics=BENCH&clientId=bench-" + i)).build();
+            httpClient.sendAsync(request, HttpResponse.BodyHandlers.fromLineSubscriber(new DeliveryCounter()));
+            if ((i + 1) % CONNECT_BATCH == 0 || i + 1 == clients) {
+                awaitConnections(i + 1);
+            }
+        }
+
+        event = SseEvent.create("BENCH", "[INFO] Benchmark notification",
+                Map.of("severity", "INFO", "counter", 1, "source", "benchmark"));
+    }
+
+    @Setup(Level.Iteration)
+    public void startCounters() {
+        deliveredBefore = delivered.sum();
+        writesBefore = writes();
+        syscallsBefore = writeSyscalls();
+        cpuBefore = processCpuNanos();
+    }
+
+    @TearDown(Level.Iteration)
+    public void printCounters() {
+        long events = delivered.sum() - deliveredBefore;
+        if (events == 0) {
+            return;
+        }
+        System.out.printf("  window %d ms: %.3f writes, %.3f write syscalls, %.1f us CPU per delivered event%n",
+                windowMs, (double) (writes() - writesBefore) / events,
+                (double) (writeSyscalls() - syscallsBefore) / events,
+                (processCpuNanos() - cpuBefore) / 1000.0 / events);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public void broadcastBurst() {
+        long expected = delivered.sum() + (long) clients * burst;
+        for (int i = 0; i < burst; i++) {
+            emitterService.broadcast(event);
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (delivered.sum() < expected) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException((expected - delivered.sum()) + " events not delivered");
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private long writes() {
+        return ((Number) emitterService.getBatchingStats().get("writes")).longValue();
+    }
+
+    private void awaitConnections(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(60);
+        while (emitterService.getActiveConnectionsCount() < expected) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new IllegalStateException("Only " + emitterService.getActiveConnectionsCount()
+                        + " of " + expected + " clients connected");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static long processCpuNanos() {
+        return ((com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean())
+                .getProcessCpuTime();
+    }
+
+    /**
+     * Write syscalls of this process so far, or 0 where /proc is not available
+     */
+    private static long writeSyscalls() {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc/self/io"))) {
+                if (line.startsWith("syscw:")) {
+                    return Long.parseLong(line.substring("syscw:".length()).trim());
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // Not Linux
+        }
+        return 0;
+    }
+
+    /**
+     * Counts the benchmark events a client reads
+     */
+    private final class DeliveryCounter implements Flow.Subscriber<String> {
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(String line) {
+            if (line.startsWith("data:") && line.contains(MARKER)) {
+                delivered.increment();
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.ssedemo.benchmark;
+
+import com.example.ssedemo.SseDemoApplication;
+import com.example.ssedemo.model.SseEvent;
+import com.example.ssedemo.service.SseEmitterService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Broadcast Benchmark
+ * Starts the application on a random port, opens the given number of real SSE connections
+ * with the JDK HttpClient (which reads and discards the stream) and measures one
+ * SseEmitterService.broadcast() call with and without the shared frame.
+ *
+ * broadcast() serializes and enqueues on the calling thread while the sender pool writes,
+ * so the time per operation is the caller's cost per broadcast; queues that fill up while
+ * the senders catch up drop their oldest frames. The scheduled events of
+ * EventSimulationService keep running and add a little noise
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class BroadcastBenchmark {
+
+    /**
+     * Connections opened before waiting for them to register, to stay within the accept backlog
+     */
+    private static final int CONNECT_BATCH = 100;
+
+    @Param({"100", "1000", "5000"})
+    private int clients;
+
+    @Param({"true", "false"})
+    private boolean sharedFrame;
+
+    private ConfigurableApplicationContext context;
+
+    private SseEmitterService emitterService;
+
+    private SseEvent event;
+
+    @Setup(Level.Trial)
+    public void connectClients() throws InterruptedException {
+        context = new SpringApplicationBuilder(SseDemoApplication.class).run(
+                "--server.port=0",
+                "--sse.broadcast.shared-frame=" + sharedFrame,
+                "--logging.level.com.example.ssedemo=WARN");
+        emitterService = context.getBean(SseEmitterService.class);
+        String url = "http://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port")
+                + context.getEnvironment().getProperty("server.servlet.context-path", "") + "/api/sse/subscribe";
+
+        HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        for (int i = 0; i < clients; i++) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(url + "?clientId=bench-" + i)).build();
+            httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding());
+            if ((i + 1) % CONNECT_BATCH == 0 || i + 1 == clients) {
+                awaitConnections(i + 1);
+            }
+        }
+
+        event = SseEvent.create("NOTIFICATION", "[INFO] Benchmark notification",
+                Map.of("severity", "INFO", "counter", 1, "source", "benchmark"));
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public void broadcast() {
+        emitterService.broadcast(event);
+    }
+
+    private void awaitConnections(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(60);
+        while (emitterService.getActiveConnectionsCount() < expected) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new IllegalStateException("Only " + emitterService.getActiveConnectionsCount()
+                        + " of " + expected + " clients connected");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
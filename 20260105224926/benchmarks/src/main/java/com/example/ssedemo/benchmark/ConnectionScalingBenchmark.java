@@ -0,0 +1,175 @@
+package com.example.ssedemo.benchmark;
+
+import com.example.ssedemo.SseDemoApplication;
+import com.example.ssedemo.service.EventSimulationService;
+import com.example.ssedemo.service.ReactiveSseServer;
+import com.example.ssedemo.service.ReactiveSseService;
+import com.example.ssedemo.service.SseEmitterService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+/**
+ * Connection Scaling Benchmark
+ * Opens the given number of real SSE connections on one transport and measures the time
+ * from publishing one event until every client has read it:
+ * emitter is SseController.subscribe (SseEmitter, per-client queue and sender pool),
+ * reactive is the Flux endpoint served by Tomcat, netty is the same Flux on the standalone
+ * Reactor Netty listener.
+ *
+ * After connecting, the setup prints the heap and the live threads per connection. The
+ * clients subscribe to the BENCH topic only, so the scheduled demo events stay off the wire
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ConnectionScalingBenchmark {
+
+    /**
+     * Connections opened before waiting for them to register, to stay within the accept backlog
+     */
+    private static final int CONNECT_BATCH = 100;
+
+    private static final String MARKER = "\"eventType\":\"BENCH\"";
+
+    @Param({"emitter", "reactive", "netty"})
+    private String transport;
+
+    @Param({"1000", "5000"})
+    private int clients;
+
+    private ConfigurableApplicationContext context;
+
+    private EventSimulationService eventSimulationService;
+
+    private final LongAdder delivered = new LongAdder();
+
+    @Setup(Level.Trial)
+    public void connectClients() throws InterruptedException {
+        context = new SpringApplicationBuilder(SseDemoApplication.class).run(
+                "--server.port=0",
+                "--server.tomcat.max-connections=" + (clients + 1000),
+                "--sse.reactive.netty.enabled=true",
+                "--sse.reactive.netty.port=0",
+                "--logging.level.com.example.ssedemo=WARN");
+        eventSimulationService = context.getBean(EventSimulationService.class);
+        String tomcat = "http://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port")
+                + context.getEnvironment().getProperty("server.servlet.context-path", "");
+        String url;
+        IntSupplier connected;
+        switch (transport) {
+            case "emitter" -> {
+                url = tomcat + "/api/sse/subscribe";
+                connected = context.getBean(SseEmitterService.class)::getActiveConnectionsCount;
+            }
+            case "reactive" -> {
+                url = tomcat + "/api/sse/reactive/subscribe";
+                connected = context.getBean(ReactiveSseService.class)::getSubscriberCount;
+            }
+            default -> {
+                url = "http://127.0.0.1:" + context.getBean(ReactiveSseServer.class).getPort()
+                        + "/api/sse/reactive/subscribe";
+                connected = context.getBean(ReactiveSseService.class)::getSubscriberCount;
+            }
+        }
+
+        long heapBefore = usedHeap();
+        int threadsBefore = Thread.activeCount();
+        HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        for (int i = 0; i < clients; i++) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(url + "?topics=BENCH&clientId=bench-" + i)).build();
+            httpClient.sendAsync(request, HttpResponse.BodyHandlers.fromLineSubscriber(new DeliveryCounter()));
+            if ((i + 1) % CONNECT_BATCH == 0 || i + 1 == clients) {
+                awaitConnections(connected, i + 1);
+            }
+        }
+        // Client and server share the heap, so this is an upper bound for the server side
+        System.out.printf("%n%s, %d connections: %d KB heap and %.2f threads per connection%n", transport, clients,
+                (usedHeap() - heapBefore) / 1024 / clients, (double) (Thread.activeCount() - threadsBefore) / clients);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public void publishUntilDelivered() throws InterruptedException {
+        long expected = delivered.sum() + clients;
+        eventSimulationService.broadcastCustomEvent("BENCH", "Benchmark event", null);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (delivered.sum() < expected) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("Only " + (clients - (expected - delivered.sum()))
+                        + " of " + clients + " clients received the event");
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private void awaitConnections(IntSupplier connected, int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(60);
+        while (connected.getAsInt() < expected) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new IllegalStateException("Only " + connected.getAsInt() + " of " + expected + " clients connected");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static long usedHeap() {
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    /**
+     * Counts the benchmark events a client reads
+     */
+    private final class DeliveryCounter implements Flow.Subscriber<String> {
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(String line) {
+            if (line.startsWith("data:") && line.contains(MARKER)) {
+                delivered.increment();
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.ssedemo.benchmark;
+
+import com.example.ssedemo.model.SseEvent;
+import com.example.ssedemo.service.SseFrame;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Frame Encoding Benchmark
+ * CPU spent preparing one broadcast for the given number of clients, without sockets:
+ * perClient serializes the event and builds an SseEmitter event for every client (the
+ * previous broadcast path), sharedFrame encodes one SseFrame and hands the same content
+ * to every client
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FrameEncodingBenchmark {
+
+    private static final long RETRY_MS = 1000;
+
+    @Param({"100", "1000", "5000", "20000"})
+    private int clients;
+
+    private ObjectMapper objectMapper;
+
+    private SseEvent event;
+
+    @Setup(Level.Trial)
+    public void createEvent() {
+        // Same LocalDateTime handling as the ObjectMapper Spring Boot configures
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        event = SseEvent.create("NOTIFICATION", "[INFO] Benchmark notification",
+                Map.of("severity", "INFO", "counter", 1, "source", "benchmark"));
+    }
+
+    @Benchmark
+    public void perClient(Blackhole blackhole) throws Exception {
+        for (int i = 0; i < clients; i++) {
+            String data = objectMapper.writeValueAsString(event);
+            blackhole.consume(SseEmitter.event()
+                    .id(event.getEventId())
+                    .data(data)
+                    .reconnectTime(RETRY_MS)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public void sharedFrame(Blackhole blackhole) throws Exception {
+        SseFrame frame = SseFrame.of(event.getEventId(), null, objectMapper.writeValueAsString(event), RETRY_MS);
+        for (int i = 0; i < clients; i++) {
+            blackhole.consume(frame.build());
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.ssedemo.loadtest;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram in microseconds
+ * Values below 128 are exact; above, each power of two is split into 64 buckets,
+ * so a percentile is at most about 1.6% above the true value
+ */
+final class LatencyHistogram {
+
+    private static final int EXACT = 128;
+    private static final int SUB_BUCKETS = 64;
+
+    private final AtomicLongArray counts = new AtomicLongArray(EXACT + 58 * SUB_BUCKETS);
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    void record(long micros) {
+        long value = Math.max(0, micros);
+        counts.incrementAndGet(index(value));
+        total.increment();
+        max.accumulate(value);
+    }
+
+    long count() {
+        return total.sum();
+    }
+
+    long max() {
+        return max.get();
+    }
+
+    /**
+     * Upper bound of the bucket holding the given percentile, or 0 without samples
+     *
+     * @param percentile Between 0 and 100
+     */
+    long percentile(double percentile) {
+        long samples = total.sum();
+        if (samples == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * samples));
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(upperBound(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    private static int index(long value) {
+        if (value < EXACT) {
+            return (int) value;
+        }
+        // Keep the top 7 bits: a mantissa between 64 and 127 and a shift of at least 1
+        int shift = 63 - Long.numberOfLeadingZeros(value) - 6;
+        int mantissa = (int) (value >>> shift);
+        return EXACT + (shift - 1) * SUB_BUCKETS + (mantissa - SUB_BUCKETS);
+    }
+
+    private static long upperBound(int index) {
+        if (index < EXACT) {
+            return index;
+        }
+        int offset = index - EXACT;
+        int shift = offset / SUB_BUCKETS + 1;
+        long mantissa = offset % SUB_BUCKETS + SUB_BUCKETS;
+        return ((mantissa + 1) << shift) - 1;
+    }
+}
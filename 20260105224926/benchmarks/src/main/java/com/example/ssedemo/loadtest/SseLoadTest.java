@@ -0,0 +1,334 @@
+package com.example.ssedemo.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * SSE Load Test
+ * Opens N connections to the subscribe endpoint of a running server with the JDK HttpClient,
+ * drives POST /api/sse/broadcast at a target rate and measures, for every event every client
+ * reads, the latency from the POST and from the event's SseEvent.timestamp to receipt.
+ *
+ * Broadcasts carry a sequence number in their data, so each client can tell which events it
+ * missed or received twice. A client whose stream ends reconnects with its Last-Event-ID.
+ *
+ * Usage: java -cp target/benchmarks.jar com.example.ssedemo.loadtest.SseLoadTest
+ *        [--url=http://localhost:8080/sse-demo] [--path=/api/sse/subscribe] [--clients=1000]
+ *        [--rate=20] [--duration=30] [--drain=5] [--retry-ms=1000]
+ */
+public final class SseLoadTest {
+
+    private static final String EVENT_TYPE = "LOADTEST";
+    private static final String SEQ_FIELD = "\"loadTestSeq\":";
+    private static final String TIMESTAMP_FIELD = "\"timestamp\":\"";
+
+    /**
+     * Connections opened before waiting for them to be established, to stay within the accept backlog
+     */
+    private static final int CONNECT_BATCH = 100;
+
+    private final String baseUrl;
+    private final String path;
+    private final int clientCount;
+    private final int rate;
+    private final int durationSeconds;
+    private final int drainSeconds;
+    private final long retryMs;
+
+    private final HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "sse-load-test");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Send time of each broadcast by sequence number, 0 until sent
+     */
+    private final AtomicLongArray sentNanos;
+    private final BitSet broadcastOk = new BitSet(); // guarded by itself
+    private final AtomicInteger broadcastsSent = new AtomicInteger();
+    private final AtomicInteger broadcastsFailed = new AtomicInteger();
+    private final LatencyHistogram endToEnd = new LatencyHistogram();
+    private final LatencyHistogram fromTimestamp = new LatencyHistogram();
+    private final AtomicLong reconnects = new AtomicLong();
+    private final AtomicLong duplicates = new AtomicLong();
+    private final AtomicLong streamErrors = new AtomicLong();
+    private volatile boolean running = true;
+
+    private SseLoadTest(Map<String, String> options) {
+        baseUrl = options.getOrDefault("url", "http://localhost:8080/sse-demo");
+        path = options.getOrDefault("path", "/api/sse/subscribe");
+        clientCount = Integer.parseInt(options.getOrDefault("clients", "1000"));
+        rate = Integer.parseInt(options.getOrDefault("rate", "20"));
+        durationSeconds = Integer.parseInt(options.getOrDefault("duration", "30"));
+        drainSeconds = Integer.parseInt(options.getOrDefault("drain", "5"));
+        retryMs = Long.parseLong(options.getOrDefault("retry-ms", "1000"));
+        if (clientCount <= 0 || rate <= 0 || durationSeconds <= 0) {
+            throw new IllegalArgumentException("clients, rate and duration must be positive");
+        }
+        sentNanos = new AtomicLongArray(rate * durationSeconds + 1);
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        new SseLoadTest(options).run();
+        // Open streams keep HttpClient threads alive
+        System.exit(0);
+    }
+
+    private void run() throws InterruptedException {
+        System.out.printf("Connecting %d clients to %s%s%n", clientCount, baseUrl, path);
+        List<Client> clients = new ArrayList<>(clientCount);
+        long connectStart = System.nanoTime();
+        int batchStart = 0;
+        for (int i = 0; i < clientCount; i++) {
+            Client client = new Client("load-" + i);
+            clients.add(client);
+            client.connect();
+            if ((i + 1) % CONNECT_BATCH == 0 || i + 1 == clientCount) {
+                for (int j = batchStart; j <= i; j++) {
+                    if (!clients.get(j).connected.await(60, TimeUnit.SECONDS)) {
+                        throw new IllegalStateException("Client " + j + " did not connect within 60 s");
+                    }
+                }
+                batchStart = i + 1;
+            }
+        }
+        System.out.printf("Connected in %d ms%n", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - connectStart));
+
+        System.out.printf("Broadcasting %d events/s for %d s%n", rate, durationSeconds);
+        int total = rate * durationSeconds;
+        AtomicInteger nextSeq = new AtomicInteger(1);
+        scheduler.scheduleAtFixedRate(() -> {
+            int seq = nextSeq.getAndIncrement();
+            if (seq <= total) {
+                broadcast(seq);
+            }
+        }, 0, TimeUnit.SECONDS.toNanos(1) / rate, TimeUnit.NANOSECONDS);
+
+        Thread.sleep(TimeUnit.SECONDS.toMillis(durationSeconds));
+        while (broadcastsSent.get() + broadcastsFailed.get() < total) {
+            Thread.sleep(10);
+        }
+        Thread.sleep(TimeUnit.SECONDS.toMillis(drainSeconds));
+        running = false;
+
+        report(clients);
+    }
+
+    private void broadcast(int seq) {
+        String body = "{\"eventType\":\"" + EVENT_TYPE + "\",\"message\":\"load test\",\"data\":{"
+            + SEQ_FIELD + seq + "}}";
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/sse/broadcast"))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+        sentNanos.set(seq, System.nanoTime());
+        httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+            if (error == null && response.statusCode() == 200) {
+                synchronized (broadcastOk) {
+                    broadcastOk.set(seq);
+                }
+                broadcastsSent.incrementAndGet();
+            } else {
+                broadcastsFailed.incrementAndGet();
+            }
+        });
+    }
+
+    private void report(List<Client> clients) {
+        BitSet sent;
+        synchronized (broadcastOk) {
+            sent = (BitSet) broadcastOk.clone();
+        }
+        long expected = (long) sent.cardinality() * clients.size();
+        long received = 0;
+        long missing = 0;
+        for (Client client : clients) {
+            synchronized (client) {
+                BitSet missed = (BitSet) sent.clone();
+                missed.andNot(client.received);
+                missing += missed.cardinality();
+                received += client.received.cardinality();
+            }
+        }
+
+        System.out.println();
+        System.out.printf("Clients:     %d, %d reconnects, %d connections failed or ended with an error%n",
+            clients.size(), reconnects.get(), streamErrors.get());
+        System.out.printf("Broadcasts:  %d sent, %d failed%n", broadcastsSent.get(), broadcastsFailed.get());
+        System.out.printf("Deliveries:  %d expected, %d received, %d dropped, %d duplicates%n",
+            expected, received, missing, duplicates.get());
+        printLatency("POST to receipt", endToEnd);
+        printLatency("SseEvent.timestamp to receipt", fromTimestamp);
+    }
+
+    private static void printLatency(String name, LatencyHistogram histogram) {
+        System.out.printf("Latency %s (ms, %d samples): p50 %.2f  p99 %.2f  p999 %.2f  max %.2f%n", name,
+            histogram.count(), histogram.percentile(50) / 1000.0, histogram.percentile(99) / 1000.0,
+            histogram.percentile(99.9) / 1000.0, histogram.max() / 1000.0);
+    }
+
+    /**
+     * One simulated EventSource: parses the stream, records latencies and reconnects
+     */
+    private final class Client implements Flow.Subscriber<String> {
+
+        private final String clientId;
+        private final CountDownLatch connected = new CountDownLatch(1);
+
+        // Lines of one response arrive in order, on one thread at a time; guarded by this for the report
+        private final BitSet received = new BitSet();
+        private String lastEventId;
+        private String pendingId;
+        private final StringBuilder data = new StringBuilder();
+        private boolean reconnecting;
+
+        Client(String clientId) {
+            this.clientId = clientId;
+        }
+
+        void connect() {
+            HttpRequest.Builder request = HttpRequest.newBuilder(
+                URI.create(baseUrl + path + "?topics=" + EVENT_TYPE + "&clientId=" + clientId));
+            String resumeFrom;
+            synchronized (this) {
+                resumeFrom = lastEventId;
+                reconnecting = false;
+                // Drop a partial event of the previous stream
+                data.setLength(0);
+                pendingId = null;
+            }
+            if (resumeFrom != null) {
+                request.header("Last-Event-ID", resumeFrom);
+            }
+            httpClient.sendAsync(request.build(), HttpResponse.BodyHandlers.fromLineSubscriber(this))
+                .whenComplete((response, error) -> {
+                    if (error != null || response.statusCode() != 200) {
+                        streamErrors.incrementAndGet();
+                    }
+                    scheduleReconnect();
+                });
+        }
+
+        private void scheduleReconnect() {
+            synchronized (this) {
+                if (!running || reconnecting) {
+                    return;
+                }
+                reconnecting = true;
+            }
+            reconnects.incrementAndGet();
+            scheduler.schedule(this::connect, retryMs, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(String line) {
+            if (line.isEmpty()) {
+                dispatch();
+            } else if (line.startsWith("data:")) {
+                data.append(line, line.startsWith("data: ") ? 6 : 5, line.length());
+            } else if (line.startsWith("id:")) {
+                pendingId = line.substring(3).trim();
+            }
+        }
+
+        private void dispatch() {
+            String payload = data.toString();
+            data.setLength(0);
+            String id = pendingId;
+            pendingId = null;
+            connected.countDown();
+
+            int seqStart = payload.indexOf(SEQ_FIELD);
+            if (seqStart < 0) {
+                return;
+            }
+            long receivedAt = System.nanoTime();
+            Instant receivedInstant = Instant.now();
+            int seq = parseSeq(payload, seqStart + SEQ_FIELD.length());
+            synchronized (this) {
+                if (id != null) {
+                    lastEventId = id;
+                }
+                if (received.get(seq)) {
+                    duplicates.incrementAndGet();
+                    return;
+                }
+                received.set(seq);
+            }
+            if (seq < sentNanos.length() && sentNanos.get(seq) != 0) {
+                endToEnd.record(TimeUnit.NANOSECONDS.toMicros(receivedAt - sentNanos.get(seq)));
+            }
+            Instant timestamp = parseTimestamp(payload);
+            if (timestamp != null) {
+                fromTimestamp.record(ChronoUnit.MICROS.between(timestamp, receivedInstant));
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+
+    private static int parseSeq(String payload, int start) {
+        int end = start;
+        while (end < payload.length() && Character.isDigit(payload.charAt(end))) {
+            end++;
+        }
+        return Integer.parseInt(payload, start, end, 10);
+    }
+
+    /**
+     * The event's own timestamp is the last one in the payload, after its data
+     */
+    private static Instant parseTimestamp(String payload) {
+        int start = payload.lastIndexOf(TIMESTAMP_FIELD);
+        if (start < 0) {
+            return null;
+        }
+        start += TIMESTAMP_FIELD.length();
+        int end = payload.indexOf('"', start);
+        try {
+            return LocalDateTime.parse(payload.substring(start, end)).atZone(ZoneId.systemDefault()).toInstant();
+        } catch (DateTimeParseException | IndexOutOfBoundsException e) {
+            return null;
+        }
+    }
+}
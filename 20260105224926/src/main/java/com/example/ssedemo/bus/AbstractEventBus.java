@@ -0,0 +1,145 @@
+package com.example.ssedemo.bus;
+
+import com.example.ssedemo.model.SseEvent;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Local delivery shared by the bus implementations: drops events already delivered on this
+ * node by eventId, runs the fan-out handlers and keeps the per-node counters and latencies
+ */
+@Slf4j
+abstract class AbstractEventBus implements EventBus {
+
+    private final List<Consumer<SseEvent>> handlers = new CopyOnWriteArrayList<>();
+    private final String nodeId;
+
+    /**
+     * Recently delivered event IDs, least recently seen first
+     */
+    private final LinkedHashMap<String, Boolean> recentEventIds; // guarded by itself
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder deliveredRemote = new LongAdder();
+    private final LongAdder duplicates = new LongAdder();
+    private final LatencyStats publishLatency = new LatencyStats();
+    private final LatencyStats remoteLatency = new LatencyStats();
+    private final LatencyStats fanOutLatency = new LatencyStats();
+
+    /**
+     * @param nodeId Node ID, or blank to generate one
+     * @param dedupeCapacity Event IDs remembered for dropping duplicates
+     */
+    AbstractEventBus(String nodeId, int dedupeCapacity) {
+        this.nodeId = nodeId == null || nodeId.isBlank()
+            ? "node-" + UUID.randomUUID().toString().substring(0, 8) : nodeId;
+        this.recentEventIds = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > dedupeCapacity;
+            }
+        };
+    }
+
+    @Override
+    public void subscribe(Consumer<SseEvent> handler) {
+        handlers.add(handler);
+    }
+
+    String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Wrap an event published by this node
+     */
+    BusMessage message(SseEvent event) {
+        published.increment();
+        return new BusMessage(nodeId, nowMicros(), event);
+    }
+
+    /**
+     * Record how long handing a message to the transport took
+     */
+    void recordPublish(long startNanos) {
+        publishLatency.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos));
+    }
+
+    /**
+     * Fan a message out to this node's clients, unless its event was delivered here before
+     */
+    void deliver(BusMessage message) {
+        SseEvent event = message.event();
+        if (event == null) {
+            return;
+        }
+        if (event.getEventId() != null && !markDelivered(event.getEventId())) {
+            duplicates.increment();
+            log.debug("Dropping duplicate event {} from node {}", event.getEventId(), message.origin());
+            return;
+        }
+        delivered.increment();
+        if (!nodeId.equals(message.origin())) {
+            deliveredRemote.increment();
+            // Wall clocks of different hosts: only as accurate as their synchronization
+            remoteLatency.record(nowMicros() - message.publishedAtMicros());
+        }
+        long start = System.nanoTime();
+        for (Consumer<SseEvent> handler : handlers) {
+            try {
+                handler.accept(event);
+            } catch (RuntimeException e) {
+                log.error("Error fanning out event {}", event.getEventId(), e);
+            }
+        }
+        fanOutLatency.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+    }
+
+    /**
+     * @return false if the event ID was already delivered
+     */
+    private boolean markDelivered(String eventId) {
+        synchronized (recentEventIds) {
+            return recentEventIds.put(eventId, Boolean.TRUE) == null;
+        }
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("nodeId", nodeId);
+        stats.put("type", getType());
+        addTransportStats(stats);
+        stats.put("published", published.sum());
+        stats.put("delivered", delivered.sum());
+        stats.put("deliveredFromOtherNodes", deliveredRemote.sum());
+        stats.put("duplicatesDropped", duplicates.sum());
+        stats.put("publishLatency", publishLatency.toMap());
+        stats.put("remoteDeliveryLatency", remoteLatency.toMap());
+        stats.put("fanOutLatency", fanOutLatency.toMap());
+        return stats;
+    }
+
+    abstract String getType();
+
+    /**
+     * Connection state and counters of the transport
+     */
+    void addTransportStats(Map<String, Object> stats) {
+    }
+
+    private static long nowMicros() {
+        Instant now = Instant.now();
+        return TimeUnit.SECONDS.toMicros(now.getEpochSecond()) + TimeUnit.NANOSECONDS.toMicros(now.getNano());
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.ssedemo.bus;
+
+import com.example.ssedemo.model.SseEvent;
+
+/**
+ * An event on the bus with the node that published it
+ *
+ * @param origin Node ID of the publisher
+ * @param publishedAtMicros Wall-clock time of publishing, in microseconds since the epoch
+ */
+record BusMessage(String origin, long publishedAtMicros, SseEvent event) {
+}
@@ -0,0 +1,29 @@
+package com.example.ssedemo.bus;
+
+import com.example.ssedemo.model.SseEvent;
+
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Carries broadcasts between the nodes of a cluster
+ * Each node publishes an event once; every node, the publisher included, receives it once
+ * and fans it out to its own SSE clients
+ */
+public interface EventBus {
+
+    /**
+     * Publish an event to every node
+     */
+    void publish(SseEvent event);
+
+    /**
+     * Register the local fan-out; called once per event, duplicates already removed
+     */
+    void subscribe(Consumer<SseEvent> handler);
+
+    /**
+     * Node ID, message counters and publish and fan-out latencies
+     */
+    Map<String, Object> getStats();
+}
@@ -0,0 +1,32 @@
+package com.example.ssedemo.bus;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Count, mean and maximum of a latency, in microseconds
+ */
+final class LatencyStats {
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalMicros = new LongAdder();
+    private final LongAccumulator maxMicros = new LongAccumulator(Math::max, 0);
+
+    void record(long micros) {
+        long value = Math.max(0, micros);
+        count.increment();
+        totalMicros.add(value);
+        maxMicros.accumulate(value);
+    }
+
+    Map<String, Object> toMap() {
+        long samples = count.sum();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("count", samples);
+        stats.put("avgMs", samples > 0 ? totalMicros.sum() / 1000.0 / samples : 0);
+        stats.put("maxMs", maxMicros.get() / 1000.0);
+        return stats;
+    }
+}
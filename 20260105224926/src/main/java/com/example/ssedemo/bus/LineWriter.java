@@ -0,0 +1,85 @@
+package com.example.ssedemo.bus;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Bounded outgoing queue of one TCP connection, written by its own thread
+ * Callers only enqueue, so a slow or stalled peer never blocks them; when the queue is full the
+ * line is dropped and counted instead. Lines queued together are written with one flush
+ */
+final class LineWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final OutputStream out;
+    private final BlockingQueue<byte[]> queue;
+    private final LongAdder dropped;
+    private final Consumer<IOException> onFailure;
+    private final Thread thread;
+    private volatile boolean closed;
+
+    /**
+     * @param name Name of the writer thread
+     * @param capacity Lines queued before new ones are dropped
+     * @param dropped Counter of dropped lines, may be shared by several writers
+     * @param onFailure Called once on the writer thread when a write fails; should close the connection
+     */
+    LineWriter(String name, OutputStream out, int capacity, LongAdder dropped, Consumer<IOException> onFailure) {
+        this.out = new BufferedOutputStream(out, BUFFER_SIZE);
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.dropped = dropped;
+        this.onFailure = onFailure;
+        this.thread = new Thread(this::writeLoop, name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Queue a line, including its newline
+     *
+     * @return false if the queue was full and the line was dropped
+     */
+    boolean offer(byte[] line) {
+        if (queue.offer(line)) {
+            return true;
+        }
+        dropped.increment();
+        return false;
+    }
+
+    int queued() {
+        return queue.size();
+    }
+
+    /**
+     * Stop the writer thread; lines still queued are discarded
+     */
+    void close() {
+        closed = true;
+        thread.interrupt();
+    }
+
+    private void writeLoop() {
+        try {
+            while (!closed) {
+                byte[] line = queue.take();
+                do {
+                    out.write(line);
+                } while ((line = queue.poll()) != null);
+                out.flush();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            if (!closed) {
+                onFailure.accept(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.ssedemo.bus;
+
+import com.example.ssedemo.model.SseEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Single-node bus: a published event is fanned out right away on the calling thread
+ */
+@Component
+@ConditionalOnProperty(prefix = "sse.bus", name = "type", havingValue = "local", matchIfMissing = true)
+public class LocalEventBus extends AbstractEventBus {
+
+    public LocalEventBus(@Value("${sse.bus.node-id:}") String nodeId,
+                         @Value("${sse.bus.dedupe-capacity:10000}") int dedupeCapacity) {
+        super(nodeId, dedupeCapacity);
+    }
+
+    @Override
+    public void publish(SseEvent event) {
+        deliver(message(event));
+    }
+
+    @Override
+    String getType() {
+        return "local";
+    }
+}
@@ -0,0 +1,225 @@
+package com.example.ssedemo.bus;
+
+import com.example.ssedemo.model.SseEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Networked bus over a TcpEventRelay: every message is one line of JSON that the relay copies
+ * to all connected nodes
+ * A published event is sent to the relay once and fanned out locally right away; the copy the
+ * relay sends back is dropped as a duplicate. While the relay is unreachable, events still reach
+ * this node's clients and the connection is retried every reconnect interval
+ * Publishing only queues the line for a writer thread, so a slow relay does not block the caller;
+ * lines that do not fit the send queue are dropped and counted
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "sse.bus", name = "type", havingValue = "tcp")
+public class TcpEventBus extends AbstractEventBus {
+
+    private static final int CONNECT_TIMEOUT_MS = 5000;
+
+    private final ObjectMapper objectMapper;
+    private final String host;
+    private final int port;
+    private final long reconnectMs;
+    private final int sendQueueCapacity;
+    private final Object writeLock = new Object();
+    private Socket socket; // guarded by writeLock
+    private LineWriter writer; // guarded by writeLock
+    private Thread reader;
+    private volatile boolean running;
+    private final AtomicLong connects = new AtomicLong();
+    private final LongAdder sendFailures = new LongAdder();
+    private final LongAdder sendDropped = new LongAdder();
+    private final LongAdder malformed = new LongAdder();
+
+    /**
+     * @param nodeId Node ID, or blank to generate one
+     * @param dedupeCapacity Event IDs remembered for dropping duplicates
+     * @param host Relay host
+     * @param port Relay port
+     * @param reconnectMs Delay before reconnecting to the relay
+     * @param sendQueueCapacity Lines waiting to be written to the relay before new ones are dropped
+     */
+    public TcpEventBus(ObjectMapper objectMapper,
+                       @Value("${sse.bus.node-id:}") String nodeId,
+                       @Value("${sse.bus.dedupe-capacity:10000}") int dedupeCapacity,
+                       @Value("${sse.bus.tcp.host:localhost}") String host,
+                       @Value("${sse.bus.tcp.port:7070}") int port,
+                       @Value("${sse.bus.tcp.reconnect-ms:1000}") long reconnectMs,
+                       @Value("${sse.bus.tcp.send-queue-capacity:10000}") int sendQueueCapacity) {
+        super(nodeId, dedupeCapacity);
+        this.objectMapper = objectMapper;
+        this.host = host;
+        this.port = port;
+        this.reconnectMs = reconnectMs;
+        this.sendQueueCapacity = sendQueueCapacity;
+    }
+
+    /**
+     * Connect to the relay in the background
+     */
+    @PostConstruct
+    public void start() {
+        running = true;
+        reader = new Thread(this::readLoop, "sse-bus-reader");
+        reader.setDaemon(true);
+        reader.start();
+    }
+
+    @Override
+    public void publish(SseEvent event) {
+        BusMessage message = message(event);
+        send(message);
+        deliver(message);
+    }
+
+    private void send(BusMessage message) {
+        long start = System.nanoTime();
+        byte[] line;
+        try {
+            line = (objectMapper.writeValueAsString(message) + "\n").getBytes(StandardCharsets.UTF_8);
+        } catch (JsonProcessingException e) {
+            log.error("Error serializing event {} for the bus", message.event().getEventId(), e);
+            sendFailures.increment();
+            return;
+        }
+        synchronized (writeLock) {
+            if (writer == null) {
+                sendFailures.increment();
+                log.warn("Event bus not connected, event {} only reaches this node", message.event().getEventId());
+                return;
+            }
+            if (!writer.offer(line)) {
+                log.warn("Event bus send queue full, event {} only reaches this node", message.event().getEventId());
+                return;
+            }
+        }
+        recordPublish(start);
+    }
+
+    /**
+     * Connect, deliver every line the relay sends, and reconnect when the connection drops
+     */
+    private void readLoop() {
+        while (running) {
+            try (Socket connection = new Socket()) {
+                connection.connect(new InetSocketAddress(host, port), CONNECT_TIMEOUT_MS);
+                connection.setTcpNoDelay(true);
+                synchronized (writeLock) {
+                    socket = connection;
+                    writer = new LineWriter("sse-bus-writer", connection.getOutputStream(), sendQueueCapacity,
+                        sendDropped, this::onWriteFailure);
+                }
+                connects.incrementAndGet();
+                log.info("Node {} connected to event relay {}:{}", getNodeId(), host, port);
+
+                BufferedReader in = new BufferedReader(
+                    new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8));
+                String line;
+                while ((line = in.readLine()) != null) {
+                    receive(line);
+                }
+            } catch (IOException e) {
+                if (running) {
+                    log.warn("Event relay {}:{} unavailable: {}", host, port, e.getMessage());
+                }
+            } finally {
+                synchronized (writeLock) {
+                    if (writer != null) {
+                        writer.close();
+                    }
+                    socket = null;
+                    writer = null;
+                }
+            }
+            if (running) {
+                try {
+                    Thread.sleep(reconnectMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void receive(String line) {
+        BusMessage message;
+        try {
+            message = objectMapper.readValue(line, BusMessage.class);
+        } catch (JsonProcessingException e) {
+            malformed.increment();
+            log.warn("Ignoring malformed bus message: {}", e.getMessage());
+            return;
+        }
+        deliver(message);
+    }
+
+    /**
+     * Called by the writer thread; events still queued are lost and the reader reconnects
+     */
+    private void onWriteFailure(IOException e) {
+        sendFailures.increment();
+        log.warn("Error sending to the event relay {}:{}: {}", host, port, e.getMessage());
+        closeSocket();
+    }
+
+    /**
+     * Close the current connection; the reader reconnects
+     */
+    private void closeSocket() {
+        synchronized (writeLock) {
+            if (socket != null) {
+                try {
+                    socket.close();
+                } catch (IOException e) {
+                    log.debug("Error closing event relay connection", e);
+                }
+            }
+        }
+    }
+
+    @Override
+    String getType() {
+        return "tcp";
+    }
+
+    @Override
+    void addTransportStats(Map<String, Object> stats) {
+        synchronized (writeLock) {
+            stats.put("connected", writer != null);
+            stats.put("sendQueued", writer != null ? writer.queued() : 0);
+        }
+        stats.put("relay", host + ":" + port);
+        stats.put("connects", connects.get());
+        stats.put("sendFailures", sendFailures.sum());
+        stats.put("sendDropped", sendDropped.sum());
+        stats.put("malformedMessages", malformed.sum());
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        closeSocket();
+        reader.interrupt();
+    }
+}
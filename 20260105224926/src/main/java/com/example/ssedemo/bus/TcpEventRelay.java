@@ -0,0 +1,160 @@
+package com.example.ssedemo.bus;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Minimal stand-in for a message broker: copies every line a node sends to all connected
+ * nodes, the sender included
+ * Enough to run several nodes on one machine or in a test; one node can host it with
+ * sse.bus.relay.enabled, or it can be started on its own with {@link #start()}
+ * Each node has its own send queue and writer thread, so a slow node does not hold up the
+ * others; lines that do not fit a node's queue are dropped and counted
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "sse.bus.relay", name = "enabled", havingValue = "true")
+public class TcpEventRelay {
+
+    private final int port;
+    private final int queueCapacity;
+    private final Set<Connection> connections = ConcurrentHashMap.newKeySet();
+    private final LongAdder relayed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private ServerSocket serverSocket;
+    private volatile boolean running;
+
+    /**
+     * @param port Port to listen on; 0 picks a free port
+     * @param queueCapacity Lines waiting to be written to each node before new ones are dropped
+     */
+    public TcpEventRelay(@Value("${sse.bus.relay.port:7070}") int port,
+                         @Value("${sse.bus.relay.queue-capacity:10000}") int queueCapacity) {
+        this.port = port;
+        this.queueCapacity = queueCapacity;
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        serverSocket = new ServerSocket(port);
+        running = true;
+        Thread acceptor = new Thread(this::acceptLoop, "sse-relay-acceptor");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        log.info("Event relay listening on port {}", getPort());
+    }
+
+    /**
+     * Port the relay is bound to
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public int getConnectionCount() {
+        return connections.size();
+    }
+
+    public long getRelayedCount() {
+        return relayed.sum();
+    }
+
+    /**
+     * Lines not sent to a node because its queue was full
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    private void acceptLoop() {
+        while (running) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                Connection connection = new Connection(socket);
+                connections.add(connection);
+                Thread thread = new Thread(() -> relayFrom(connection), "sse-relay-" + socket.getPort());
+                thread.setDaemon(true);
+                thread.start();
+                log.info("Event relay: node connected from {}", socket.getRemoteSocketAddress());
+            } catch (IOException e) {
+                if (running) {
+                    log.warn("Event relay accept failed", e);
+                }
+            }
+        }
+    }
+
+    private void relayFrom(Connection source) {
+        try {
+            BufferedReader in = new BufferedReader(
+                new InputStreamReader(source.socket.getInputStream(), StandardCharsets.UTF_8));
+            String line;
+            while ((line = in.readLine()) != null) {
+                byte[] bytes = (line + "\n").getBytes(StandardCharsets.UTF_8);
+                for (Connection target : connections) {
+                    target.writer.offer(bytes);
+                }
+                relayed.increment();
+            }
+        } catch (IOException e) {
+            if (running) {
+                log.debug("Event relay connection {} failed: {}", source.socket.getRemoteSocketAddress(), e.getMessage());
+            }
+        } finally {
+            close(source);
+        }
+    }
+
+    private void close(Connection connection) {
+        if (connections.remove(connection)) {
+            connection.writer.close();
+            try {
+                connection.socket.close();
+            } catch (IOException e) {
+                log.debug("Error closing relay connection", e);
+            }
+            log.info("Event relay: node disconnected from {}", connection.socket.getRemoteSocketAddress());
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            log.debug("Error closing event relay", e);
+        }
+        connections.forEach(this::close);
+    }
+
+    private final class Connection {
+
+        private final Socket socket;
+        private final LineWriter writer;
+
+        Connection(Socket socket) throws IOException {
+            this.socket = socket;
+            this.writer = new LineWriter("sse-relay-writer-" + socket.getPort(), socket.getOutputStream(),
+                queueCapacity, dropped, e -> {
+                    log.debug("Event relay write to {} failed: {}", socket.getRemoteSocketAddress(), e.getMessage());
+                    close(this);
+                });
+        }
+    }
+}
@@ -1,16 +1,23 @@
 package com.example.ssedemo.controller;
 
+import com.example.ssedemo.bus.EventBus;
 import com.example.ssedemo.model.SseEvent;
 import com.example.ssedemo.service.EventSimulationService;
+import com.example.ssedemo.service.ReactiveSseService;
 import com.example.ssedemo.service.SseEmitterService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
 
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -26,18 +33,26 @@ public class SseController {
 
     private final SseEmitterService emitterService;
     private final EventSimulationService eventSimulationService;
+    private final ReactiveSseService reactiveSseService;
+    private final EventBus eventBus;
 
     /**
      * SSE endpoint for clients to subscribe to real-time events
      * 
      * @param clientId Optional client identifier (auto-generated if not provided)
      * @param timeout Optional connection timeout in milliseconds (default: 30 minutes)
+     * @param lastEventIdHeader Last-Event-ID sent by a reconnecting EventSource
+     * @param lastEventId Same as the header, for clients that cannot set headers
+     * @param topics Optional event types to receive, comma-separated or repeated (default: all)
      * @return SseEmitter for streaming events
      */
     @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public SseEmitter subscribe(
             @RequestParam(required = false) String clientId,
-            @RequestParam(required = false) Long timeout) {
+            @RequestParam(required = false) Long timeout,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+            @RequestParam(required = false) String lastEventId,
+            @RequestParam(required = false) Set<String> topics) {
         
         // Generate client ID if not provided
         if (clientId == null || clientId.trim().isEmpty()) {
@@ -46,7 +61,31 @@ public class SseController {
         
         log.info("New SSE subscription request from client: {}", clientId);
         
-        return emitterService.createEmitter(clientId, timeout);
+        return emitterService.createEmitter(clientId, timeout,
+            lastEventIdHeader != null ? lastEventIdHeader : lastEventId, topics);
+    }
+
+    /**
+     * Reactive SSE endpoint: a Flux over the shared multicast sink, with latest-wins backpressure
+     * for high-frequency event types and a bounded buffer for the rest
+     * No replay; the connection times out after spring.mvc.async.request-timeout
+     *
+     * @param clientId Optional client identifier (auto-generated if not provided)
+     * @param topics Optional event types to receive, comma-separated or repeated (default: all)
+     * @return Stream of events, heartbeats as SSE comments
+     */
+    @GetMapping(value = "/reactive/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<String>> subscribeReactive(
+            @RequestParam(required = false) String clientId,
+            @RequestParam(required = false) Set<String> topics) {
+
+        if (clientId == null || clientId.trim().isEmpty()) {
+            clientId = "client-" + UUID.randomUUID().toString().substring(0, 8);
+        }
+
+        log.info("New reactive SSE subscription request from client: {}", clientId);
+
+        return reactiveSseService.subscribe(clientId, topics);
     }
 
     /**
@@ -54,10 +93,47 @@ public class SseController {
      */
     @GetMapping("/stats")
     public ResponseEntity<Map<String, Object>> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("activeConnections", emitterService.getActiveConnectionsCount());
+        stats.put("timestamp", System.currentTimeMillis());
+        stats.put("status", "running");
+        stats.put("fanout", emitterService.getFanoutStats());
+        stats.put("replay", emitterService.getReplayStats());
+        stats.put("conflation", emitterService.getConflationStats());
+        stats.put("batching", emitterService.getBatchingStats());
+        stats.put("heartbeat", emitterService.getHeartbeatStats());
+        stats.put("allTopicsSubscribers", emitterService.getAllTopicsSubscriberCount());
+        stats.put("topics", emitterService.getTopicStats());
+        stats.put("reactive", reactiveSseService.getStats());
+        stats.put("bus", eventBus.getStats());
+        return ResponseEntity.ok(stats);
+    }
+
+    /**
+     * Get send queue depth and delivery counters per connected client
+     */
+    @GetMapping("/clients")
+    public ResponseEntity<List<Map<String, Object>>> getClients() {
+        return ResponseEntity.ok(emitterService.getClientStats());
+    }
+
+    /**
+     * Change the topics of a connected client without reconnecting
+     *
+     * @param clientId The client ID
+     * @param topics Event types to receive, comma-separated or repeated; none for all
+     * @return Success message, or 404 if the client is not connected
+     */
+    @PutMapping("/subscriptions/{clientId}")
+    public ResponseEntity<Map<String, String>> updateSubscription(
+            @PathVariable String clientId,
+            @RequestParam(required = false) Set<String> topics) {
+        if (!emitterService.updateTopics(clientId, topics)) {
+            return ResponseEntity.notFound().build();
+        }
         return ResponseEntity.ok(Map.of(
-            "activeConnections", emitterService.getActiveConnectionsCount(),
-            "timestamp", System.currentTimeMillis(),
-            "status", "running"
+            "status", "success",
+            "message", "Subscription updated: " + clientId
         ));
     }
 
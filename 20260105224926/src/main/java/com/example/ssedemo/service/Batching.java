@@ -0,0 +1,76 @@
+package com.example.ssedemo.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Flush-interval batching: a frame of a batched topic waits up to the window for more frames,
+ * then everything queued for the client goes out in one write with a single flush
+ * Frames of immediate topics start the write right away, taking any waiting frames along
+ */
+final class Batching {
+
+    private final long windowMs;
+    private final Set<String> immediateTopics;
+    private final ScheduledExecutorService timer;
+    private final LongAdder writes = new LongAdder();
+    private final LongAdder frames = new LongAdder();
+    private final LongAdder batchedWrites = new LongAdder();
+
+    /**
+     * @param windowMs How long a batched frame may wait; 0 disables batching
+     * @param immediateTopics Topics that are never held back, already normalized
+     * @param timer Fires the delayed writes
+     */
+    Batching(long windowMs, Set<String> immediateTopics, ScheduledExecutorService timer) {
+        this.windowMs = windowMs;
+        this.immediateTopics = immediateTopics;
+        this.timer = timer;
+    }
+
+    boolean isEnabled() {
+        return windowMs > 0;
+    }
+
+    /**
+     * Whether a frame of this topic may wait for the window to fill
+     */
+    boolean isDeferred(String topic) {
+        return windowMs > 0 && !immediateTopics.contains(topic);
+    }
+
+    void schedule(Runnable flush) {
+        timer.schedule(flush, windowMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Count one emitter write carrying the given number of frames
+     */
+    void recordWrite(int frameCount) {
+        writes.increment();
+        frames.add(frameCount);
+        if (frameCount > 1) {
+            batchedWrites.increment();
+        }
+    }
+
+    /**
+     * Window, immediate topics, and writes and frames across all clients
+     */
+    Map<String, Object> getStats() {
+        long writeCount = writes.sum();
+        long frameCount = frames.sum();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("windowMs", windowMs);
+        stats.put("immediateTopics", immediateTopics);
+        stats.put("writes", writeCount);
+        stats.put("frames", frameCount);
+        stats.put("batchedWrites", batchedWrites.sum());
+        stats.put("framesPerWrite", writeCount > 0 ? (double) frameCount / writeCount : 0);
+        return stats;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.ssedemo.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Event types of which a client keeps at most one pending frame (latest wins), and
+ * counters of the frames replaced that way across all clients
+ * Every other type is delivered exactly, in order
+ */
+final class Conflation {
+
+    private final Set<String> types;
+    private final ConcurrentHashMap<String, LongAdder> conflatedByTopic = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, LongAdder> bytesSavedByTopic = new ConcurrentHashMap<>();
+
+    /**
+     * @param types Conflatable topics, already normalized; empty disables conflation
+     */
+    Conflation(Set<String> types) {
+        this.types = types;
+    }
+
+    boolean isConflatable(String topic) {
+        return types.contains(topic);
+    }
+
+    /**
+     * Count a pending frame replaced by a newer one of the same topic
+     *
+     * @param bytes Size of the frame that will not be written
+     */
+    void recordConflated(String topic, int bytes) {
+        conflatedByTopic.computeIfAbsent(topic, key -> new LongAdder()).increment();
+        bytesSavedByTopic.computeIfAbsent(topic, key -> new LongAdder()).add(bytes);
+    }
+
+    /**
+     * Conflatable types and, per topic, frames replaced and bytes not written
+     */
+    Map<String, Object> getStats() {
+        Map<String, Object> byTopic = new TreeMap<>();
+        conflatedByTopic.forEach((topic, conflated) -> {
+            LongAdder bytesSaved = bytesSavedByTopic.get(topic);
+            byTopic.put(topic, Map.of(
+                "conflated", conflated.sum(),
+                "bytesSaved", bytesSaved != null ? bytesSaved.sum() : 0));
+        });
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("types", types);
+        stats.put("topics", byTopic);
+        return stats;
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.ssedemo.service;
 
+import com.example.ssedemo.bus.EventBus;
 import com.example.ssedemo.model.SseEvent;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -14,12 +15,16 @@ import java.util.concurrent.atomic.AtomicInteger;
 /**
  * Service to generate and broadcast simulated real-time events
  * Demonstrates different types of SSE events: notifications, metrics, alerts
+ * Simulated events are generated on every node and stay local; custom events go through
+ * the event bus to the clients of every node
  */
 @Slf4j
 @Service
 public class EventSimulationService {
 
     private final SseEmitterService emitterService;
+    private final ReactiveSseService reactiveSseService;
+    private final EventBus eventBus;
     private final Random random = new Random();
     private final AtomicInteger notificationCounter = new AtomicInteger(0);
 
@@ -38,8 +43,12 @@ public class EventSimulationService {
         "Service restart required"
     };
 
-    public EventSimulationService(SseEmitterService emitterService) {
+    public EventSimulationService(SseEmitterService emitterService, ReactiveSseService reactiveSseService,
+                                  EventBus eventBus) {
         this.emitterService = emitterService;
+        this.reactiveSseService = reactiveSseService;
+        this.eventBus = eventBus;
+        eventBus.subscribe(this::publish);
     }
 
     /**
@@ -59,7 +68,7 @@ public class EventSimulationService {
         SseEvent event = SseEvent.create("NOTIFICATION", 
             String.format("[%s] %s ( #%d )", type, message, counter), data);
         
-        emitterService.broadcast(event);
+        publish(event);
         log.info("Broadcasted notification: {}", message);
     }
 
@@ -79,7 +88,7 @@ public class EventSimulationService {
         SseEvent event = SseEvent.create("METRICS", 
             "System metrics update", metrics);
         
-        emitterService.broadcast(event);
+        publish(event);
         log.debug("Broadcasted system metrics");
     }
 
@@ -96,7 +105,7 @@ public class EventSimulationService {
         SseEvent event = SseEvent.create("TIME", 
             "Time update", timeData);
         
-        emitterService.broadcast(event);
+        publish(event);
     }
 
     /**
@@ -114,17 +123,25 @@ public class EventSimulationService {
                 String.format("Alert: High traffic detected at %s", LocalDateTime.now()), 
                 alertData);
             
-            emitterService.broadcast(event);
+            publish(event);
             log.warn("Broadcasted alert event");
         }
     }
 
     /**
-     * Broadcast custom event on demand
+     * Broadcast custom event on demand to the clients of every node
      */
     public void broadcastCustomEvent(String eventType, String message, Object data) {
         SseEvent event = SseEvent.create(eventType, message, data);
-        emitterService.broadcast(event);
+        eventBus.publish(event);
         log.info("Broadcasted custom event: {}", eventType);
     }
+
+    /**
+     * Deliver an event to both the emitter and the reactive subscribers of this node
+     */
+    private void publish(SseEvent event) {
+        emitterService.broadcast(event);
+        reactiveSseService.publish(event);
+    }
 }
@@ -0,0 +1,124 @@
+package com.example.ssedemo.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timer wheel that finds the connections idle for longer than the threshold
+ * Each client sits in the slot of the tick at which it would become idle, so a tick only looks
+ * at the clients due then instead of scanning all of them. A due client that wrote in the
+ * meantime moves to the slot of its new deadline; an idle one gets a heartbeat and comes back
+ * after another threshold
+ * Ticks run on a single thread; clients registered from other threads are picked up on the next tick
+ */
+final class HeartbeatWheel {
+
+    private static final int SLOTS = 512;
+
+    private record Entry(SseClient client, long deadlineTick) {
+    }
+
+    private final long idleNanos;
+    private final long tickNanos;
+    private final Consumer<SseClient> onIdle;
+    private final long startNanos = System.nanoTime();
+    private final Queue<SseClient> added = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger scheduled = new AtomicInteger();
+    private final LongAdder checked = new LongAdder();
+    private final LongAdder heartbeats = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+
+    // Only touched by the ticking thread
+    @SuppressWarnings("unchecked")
+    private final List<Entry>[] slots = new List[SLOTS];
+    private long currentTick; // next tick to process
+
+    /**
+     * @param idleMs How long a client may go without a write before it gets a heartbeat
+     * @param tickMs Resolution of the wheel; a heartbeat goes out up to one tick late
+     * @param onIdle Sends the heartbeat to an idle client
+     */
+    HeartbeatWheel(long idleMs, long tickMs, Consumer<SseClient> onIdle) {
+        this.idleNanos = TimeUnit.MILLISECONDS.toNanos(idleMs);
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMs);
+        this.onIdle = onIdle;
+        for (int i = 0; i < SLOTS; i++) {
+            slots[i] = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Start watching a client; it leaves the wheel by itself once closed
+     */
+    void add(SseClient client) {
+        added.add(client);
+        scheduled.incrementAndGet();
+    }
+
+    /**
+     * Process every tick that has elapsed since the last call
+     */
+    void tick() {
+        long now = System.nanoTime();
+        long lastDueTick = (now - startNanos) / tickNanos;
+        for (SseClient client; (client = added.poll()) != null; ) {
+            schedule(client, client.getLastWriteNanos() + idleNanos);
+        }
+        while (currentTick <= lastDueTick) {
+            List<Entry> slot = slots[(int) (currentTick & (SLOTS - 1))];
+            List<Entry> due = new ArrayList<>();
+            // Entries further away than one turn of the wheel stay where they are
+            long tick = currentTick;
+            slot.removeIf(entry -> entry.deadlineTick() <= tick && due.add(entry));
+            currentTick++;
+            for (Entry entry : due) {
+                check(entry.client(), now);
+            }
+        }
+    }
+
+    private void check(SseClient client, long now) {
+        if (client.isClosed()) {
+            scheduled.decrementAndGet();
+            return;
+        }
+        checked.increment();
+        long idleSince = client.getLastWriteNanos();
+        if (now - idleSince >= idleNanos) {
+            heartbeats.increment();
+            onIdle.accept(client);
+            schedule(client, now + idleNanos);
+        } else {
+            skipped.increment();
+            schedule(client, idleSince + idleNanos);
+        }
+    }
+
+    private void schedule(SseClient client, long deadlineNanos) {
+        // Round up so a client is never checked before its deadline, and never into a processed tick
+        long deadlineTick = Math.max(currentTick, (deadlineNanos - startNanos + tickNanos - 1) / tickNanos);
+        slots[(int) (deadlineTick & (SLOTS - 1))].add(new Entry(client, deadlineTick));
+    }
+
+    /**
+     * Threshold, resolution, clients watched, and due clients that got a heartbeat or had written since
+     */
+    Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("idleThresholdMs", TimeUnit.NANOSECONDS.toMillis(idleNanos));
+        stats.put("tickMs", TimeUnit.NANOSECONDS.toMillis(tickNanos));
+        stats.put("scheduled", scheduled.get());
+        stats.put("checked", checked.sum());
+        stats.put("heartbeats", heartbeats.sum());
+        stats.put("skippedActive", skipped.sum());
+        return stats;
+    }
+}
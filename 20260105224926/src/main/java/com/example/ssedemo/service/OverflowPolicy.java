@@ -0,0 +1,23 @@
+package com.example.ssedemo.service;
+
+/**
+ * What to do when a client's send queue is full
+ */
+public enum OverflowPolicy {
+
+    /**
+     * Discard the oldest queued frame to make room for the new one
+     */
+    DROP_OLDEST,
+
+    /**
+     * Replace the oldest queued frame of the same event type (latest wins),
+     * falling back to dropping the oldest frame when none is queued
+     */
+    CONFLATE,
+
+    /**
+     * Disconnect the client; it reconnects and starts from a fresh queue
+     */
+    DISCONNECT
+}
@@ -0,0 +1,92 @@
+package com.example.ssedemo.service;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Standalone Reactor Netty listener serving the reactive SSE stream outside Tomcat
+ * Connections are held by Netty event loops instead of servlet async contexts, so the
+ * number of subscribers is bounded by file descriptors and memory rather than by
+ * server.tomcat.max-connections
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "sse.reactive.netty", name = "enabled", havingValue = "true")
+public class ReactiveSseServer {
+
+    private final ReactiveSseService reactiveSseService;
+    private DisposableServer server;
+
+    public ReactiveSseServer(ReactiveSseService reactiveSseService) {
+        this.reactiveSseService = reactiveSseService;
+    }
+
+    @Value("${sse.reactive.netty.host:0.0.0.0}")
+    private String host;
+
+    /**
+     * Port of the listener; 0 picks a free port
+     */
+    @Value("${sse.reactive.netty.port:8081}")
+    private int port;
+
+    @Value("${sse.reactive.netty.path:/api/sse/reactive/subscribe}")
+    private String path;
+
+    @PostConstruct
+    public void start() {
+        server = HttpServer.create()
+            .host(host)
+            .port(port)
+            .route(routes -> routes.get(path, (request, response) -> {
+                QueryStringDecoder query = new QueryStringDecoder(request.uri());
+                String clientId = first(query.parameters().get("clientId"));
+                if (clientId == null || clientId.isBlank()) {
+                    clientId = "client-" + UUID.randomUUID().toString().substring(0, 8);
+                }
+                List<String> topics = new ArrayList<>();
+                query.parameters().getOrDefault("topics", List.of())
+                    .forEach(value -> topics.addAll(Arrays.asList(value.split(","))));
+
+                return response
+                    .header(HttpHeaderNames.CONTENT_TYPE, MediaType.TEXT_EVENT_STREAM_VALUE)
+                    .header(HttpHeaderNames.CACHE_CONTROL, "no-cache")
+                    .header(HttpHeaderNames.ACCESS_CONTROL_ALLOW_ORIGIN, "*")
+                    .sendByteArray(reactiveSseService.subscribeFrames(clientId, topics));
+            }))
+            .bindNow();
+        log.info("Reactive SSE listener on {}:{}{}", host, getPort(), path);
+    }
+
+    /**
+     * Port the listener is bound to
+     */
+    public int getPort() {
+        return server.port();
+    }
+
+    private static String first(List<String> values) {
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (server != null) {
+            server.disposeNow();
+        }
+    }
+}
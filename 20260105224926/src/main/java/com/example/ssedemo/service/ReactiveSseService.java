@@ -0,0 +1,227 @@
+package com.example.ssedemo.service;
+
+import com.example.ssedemo.model.SseEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Reactive counterpart of SseEmitterService
+ * Every event is published once into a multicast sink; each subscriber is a Flux over that sink
+ * with its own backpressure: the latest value for high-frequency types (TIME, METRICS by default),
+ * a bounded in-order buffer for everything else. There is no emitter, queue or sender thread per
+ * connection, so the cost of an idle subscriber is a few operator objects
+ */
+@Slf4j
+@Service
+public class ReactiveSseService {
+
+    private static final String HEARTBEAT_TOPIC = "HEARTBEAT";
+
+    /**
+     * Group of the event types delivered in order through the bounded buffer
+     */
+    private static final String BUFFERED = "";
+
+    /**
+     * An event encoded once for both transports: the ServerSentEvent for Spring MVC and the
+     * frame bytes for the Netty listener
+     */
+    record ReactiveEvent(String topic, ServerSentEvent<String> sse, byte[] frame) {
+    }
+
+    /**
+     * Best effort towards the sink's own subscribers, which never lag: each one requests
+     * unbounded into its backpressure operator
+     */
+    private final Sinks.Many<ReactiveEvent> sink = Sinks.many().multicast().directBestEffort();
+
+    /**
+     * Serializes emissions from scheduled tasks, request threads and the heartbeat timer
+     */
+    private final Object emitLock = new Object();
+    private final ObjectMapper objectMapper;
+    private final AtomicInteger subscribers = new AtomicInteger();
+    private final AtomicLong subscriptions = new AtomicLong();
+    private final LongAdder published = new LongAdder();
+    private final LongAdder bufferDrops = new LongAdder();
+    private Set<String> latestTopics;
+    private ReactiveEvent heartbeat;
+    private Disposable heartbeats;
+
+    public ReactiveSseService(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Value("${sse.timeout.heartbeat:30000}")
+    private long heartbeatInterval;
+
+    @Value("${sse.retry.delay:1000}")
+    private long retryDelay;
+
+    /**
+     * Event types of which a lagging subscriber only gets the latest value
+     */
+    @Value("${sse.reactive.latest-types:TIME,METRICS}")
+    private Set<String> latestTypes;
+
+    /**
+     * Buffered events a lagging subscriber may have waiting before the oldest is dropped
+     */
+    @Value("${sse.reactive.buffer-size:256}")
+    private int bufferSize;
+
+    /**
+     * Start the shared heartbeat ticker
+     */
+    @PostConstruct
+    public void init() {
+        latestTopics = SseEmitterService.normalizeTopics(latestTypes);
+        ServerSentEvent<String> comment = ServerSentEvent.<String>builder().comment("heartbeat").build();
+        heartbeat = new ReactiveEvent(HEARTBEAT_TOPIC, comment, ":heartbeat\n\n".getBytes(StandardCharsets.UTF_8));
+
+        // One timer for all subscribers instead of a Flux.interval per connection
+        Duration period = Duration.ofMillis(heartbeatInterval / 2);
+        heartbeats = Flux.interval(period, period)
+            .subscribe(tick -> emit(heartbeat));
+    }
+
+    /**
+     * Publish an event to every reactive subscriber of its type
+     *
+     * @param event The event to publish
+     */
+    public void publish(SseEvent event) {
+        ReactiveEvent encoded = encode(event);
+        if (encoded != null) {
+            emit(encoded);
+            published.increment();
+        }
+    }
+
+    /**
+     * Event stream of one subscriber for Spring MVC, starting with a CONNECTION event
+     *
+     * @param clientId Client identifier reported in the CONNECTION event
+     * @param topics Event types to receive; null or empty for all
+     */
+    public Flux<ServerSentEvent<String>> subscribe(String clientId, Collection<String> topics) {
+        return stream(clientId, topics).map(ReactiveEvent::sse);
+    }
+
+    /**
+     * Same stream as {@link #subscribe} as encoded SSE frames, for the Netty listener
+     */
+    Flux<byte[]> subscribeFrames(String clientId, Collection<String> topics) {
+        return stream(clientId, topics).map(ReactiveEvent::frame);
+    }
+
+    private Flux<ReactiveEvent> stream(String clientId, Collection<String> topics) {
+        Set<String> subscribed = SseEmitterService.normalizeTopics(topics);
+        ReactiveEvent connection = encode(SseEvent.create("CONNECTION", "Connected to SSE server",
+            Map.of("clientId", clientId, "timestamp", LocalDateTime.now().toString())));
+
+        // One group per latest-wins type and one for the rest, each with its own backpressure;
+        // the flatMap prefetch of 1 keeps at most one event per group in flight to the transport
+        Flux<ReactiveEvent> live = sink.asFlux()
+            .filter(event -> event == heartbeat || subscribed.isEmpty() || subscribed.contains(event.topic()))
+            .groupBy(event -> event == heartbeat || latestTopics.contains(event.topic()) ? event.topic() : BUFFERED)
+            .flatMap(group -> BUFFERED.equals(group.key())
+                    ? group.onBackpressureBuffer(bufferSize, dropped -> bufferDrops.increment(),
+                        BufferOverflowStrategy.DROP_OLDEST)
+                    : group.onBackpressureLatest(),
+                latestTopics.size() + 2, 1);
+
+        Flux<ReactiveEvent> stream = connection != null ? live.startWith(connection) : live;
+        return stream
+            .doOnSubscribe(subscription -> {
+                subscribers.incrementAndGet();
+                subscriptions.incrementAndGet();
+                log.debug("Reactive subscriber connected: {} (topics: {})", clientId,
+                    subscribed.isEmpty() ? "all" : subscribed);
+            })
+            .doFinally(signal -> {
+                subscribers.decrementAndGet();
+                log.debug("Reactive subscriber {} ended: {}", clientId, signal);
+            });
+    }
+
+    private void emit(ReactiveEvent event) {
+        synchronized (emitLock) {
+            // FAIL_ZERO_SUBSCRIBER just means nobody is listening
+            sink.tryEmitNext(event);
+        }
+    }
+
+    /**
+     * Serialize an event once for all subscribers and both transports
+     *
+     * @return the encoded event, or null if it cannot be serialized
+     */
+    private ReactiveEvent encode(SseEvent event) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            log.error("Error serializing event {}", event.getEventType(), e);
+            return null;
+        }
+        ServerSentEvent<String> sse = ServerSentEvent.builder(json)
+            .retry(Duration.ofMillis(retryDelay))
+            .build();
+        byte[] frame = SseFrame.of(null, null, json, retryDelay).bytes();
+        return new ReactiveEvent(SseEmitterService.topicOf(event.getEventType()), sse, frame);
+    }
+
+    /**
+     * Get count of active reactive subscribers
+     */
+    public int getSubscriberCount() {
+        return subscribers.get();
+    }
+
+    /**
+     * Backpressure settings, subscribers and delivery counters
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("subscribers", subscribers.get());
+        stats.put("subscriptions", subscriptions.get());
+        stats.put("latestTypes", latestTopics);
+        stats.put("bufferSize", bufferSize);
+        stats.put("published", published.sum());
+        stats.put("bufferDrops", bufferDrops.sum());
+        return stats;
+    }
+
+    /**
+     * Stop the heartbeat and complete every subscriber
+     */
+    @PreDestroy
+    public void destroy() {
+        heartbeats.dispose();
+        synchronized (emitLock) {
+            sink.tryEmitComplete();
+        }
+    }
+}
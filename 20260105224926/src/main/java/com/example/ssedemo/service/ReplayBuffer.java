@@ -0,0 +1,101 @@
+package com.example.ssedemo.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Predicate;
+
+/**
+ * Ring buffer of the most recent broadcast frames, keyed by their monotonically increasing
+ * event ID, for replay to clients that reconnect with Last-Event-ID
+ * Frames are stored encoded, so a replay writes the same bytes without serializing again.
+ * There is a single writer (SseEmitterService publishes broadcasts in ID order); readers
+ * never lock and recognize slots overwritten during a scan by their ID
+ */
+final class ReplayBuffer {
+
+    record Entry(long id, String eventType, SseFrame frame, long createdAt) {
+    }
+
+    /**
+     * @param complete false if frames after the requested ID were overwritten, aged out or cut by the limit
+     */
+    record Slice(List<Entry> entries, boolean complete) {
+    }
+
+    private final AtomicReferenceArray<Entry> slots;
+    private final long maxAgeMs;
+    private final AtomicLong lastId = new AtomicLong();
+
+    /**
+     * @param capacity Frames retained
+     * @param maxAgeMs Frames older than this are not replayed
+     */
+    ReplayBuffer(int capacity, long maxAgeMs) {
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.maxAgeMs = maxAgeMs;
+    }
+
+    /**
+     * Store the frame of a broadcast; IDs must be added in increasing order
+     */
+    void add(long id, String eventType, SseFrame frame) {
+        slots.set((int) (id % slots.length()), new Entry(id, eventType, frame, System.currentTimeMillis()));
+        lastId.set(id);
+    }
+
+    /**
+     * ID of the latest stored frame, 0 before the first broadcast
+     */
+    long getLastId() {
+        return lastId.get();
+    }
+
+    /**
+     * Retained frames after the given ID that pass the filter, oldest first, at most limit of
+     * the newest ones; the limit applies after filtering
+     * An ID ahead of the latest one was never issued, so every retained frame is returned
+     */
+    Slice since(long afterId, int limit, Predicate<Entry> filter) {
+        long last = lastId.get();
+        if (afterId < 0 || afterId > last) {
+            afterId = 0;
+        }
+        // IDs start at 1
+        long from = Math.max(afterId + 1, Math.max(1, last - slots.length() + 1));
+        boolean complete = from == afterId + 1;
+        long minCreatedAt = System.currentTimeMillis() - maxAgeMs;
+
+        List<Entry> entries = new ArrayList<>();
+        for (long id = from; id <= last; id++) {
+            Entry entry = slots.get((int) (id % slots.length()));
+            // null: never written; other ID: overwritten by a newer frame since the scan began
+            if (entry == null || entry.id() != id || entry.createdAt() < minCreatedAt) {
+                complete = false;
+            } else if (filter.test(entry)) {
+                entries.add(entry);
+            }
+        }
+        if (entries.size() > limit) {
+            entries = entries.subList(entries.size() - limit, entries.size());
+            complete = false;
+        }
+        return new Slice(entries, complete);
+    }
+
+    /**
+     * Frames currently retained and within the age limit
+     */
+    int size() {
+        return since(0, slots.length(), entry -> true).entries().size();
+    }
+
+    int capacity() {
+        return slots.length();
+    }
+
+    long maxAgeMs() {
+        return maxAgeMs;
+    }
+}
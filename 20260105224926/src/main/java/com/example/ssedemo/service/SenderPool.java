@@ -0,0 +1,133 @@
+package com.example.ssedemo.service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sender threads draining the client queues, with a watchdog for stalled writes
+ * A blocking write to a half-dead client only returns when the socket write times out.
+ * A write in progress for longer than the stall timeout gets its client disconnected, and
+ * the pool runs one extra thread until that write returns, so stalled clients do not take
+ * sender threads away from the others
+ */
+final class SenderPool implements Executor {
+
+    /**
+     * Extra threads for stalled writes, per configured thread
+     */
+    private static final int MAX_EXTRA_THREADS_PER_THREAD = 4;
+
+    private final int threads;
+    private final long stallTimeoutNanos;
+    private final ThreadPoolExecutor executor;
+    private final Set<SseClient> writing = ConcurrentHashMap.newKeySet();
+    private final LongAdder stalls = new LongAdder();
+
+    // Guarded by this
+    private final Set<SseClient> stalled = new HashSet<>();
+
+    /**
+     * @param threads Threads writing while no write is stalled
+     * @param stallTimeoutMs How long a write may take before its client is disconnected; 0 never
+     */
+    SenderPool(int threads, long stallTimeoutMs) {
+        this.threads = threads;
+        this.stallTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(stallTimeoutMs);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+            runnable -> {
+                Thread thread = new Thread(runnable, "sse-sender-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        executor.execute(task);
+    }
+
+    /**
+     * Called by a client right before it writes, after recording the write start
+     */
+    void writeStarted(SseClient client) {
+        writing.add(client);
+    }
+
+    /**
+     * Called by a client after its write returned or failed, after clearing the write start
+     */
+    synchronized void writeFinished(SseClient client) {
+        writing.remove(client);
+        if (stalled.remove(client)) {
+            resize();
+        }
+    }
+
+    /**
+     * Close the clients whose write has been in progress for longer than the stall timeout
+     * and start a replacement thread for each; only looks at the writes in progress
+     *
+     * @return the clients closed now, to be removed from the registry by the caller
+     */
+    synchronized List<SseClient> closeStalled() {
+        List<SseClient> closed = new ArrayList<>();
+        if (stallTimeoutNanos == 0) {
+            return closed;
+        }
+        long now = System.nanoTime();
+        for (SseClient client : writing) {
+            if (!stalled.contains(client) && client.closeIfStalled(now, stallTimeoutNanos)) {
+                stalls.increment();
+                stalled.add(client);
+                closed.add(client);
+                resize();
+            }
+        }
+        return closed;
+    }
+
+    /**
+     * One extra thread per stalled write, up to the limit
+     */
+    private void resize() {
+        int size = threads + Math.min(stalled.size(), threads * MAX_EXTRA_THREADS_PER_THREAD);
+        if (size > executor.getMaximumPoolSize()) {
+            executor.setMaximumPoolSize(size);
+            executor.setCorePoolSize(size);
+            // Picks up queued drains right away instead of at the next submission
+            executor.prestartCoreThread();
+        } else if (size < executor.getMaximumPoolSize()) {
+            executor.setCorePoolSize(size);
+            executor.setMaximumPoolSize(size);
+        }
+    }
+
+    /**
+     * Pool size, writes in progress and stalled, and clients disconnected for stalling
+     */
+    synchronized Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("stallTimeoutMs", TimeUnit.NANOSECONDS.toMillis(stallTimeoutNanos));
+        stats.put("senderPoolSize", executor.getPoolSize());
+        stats.put("writesInProgress", writing.size());
+        stats.put("stalledWrites", stalled.size());
+        stats.put("stallDisconnects", stalls.sum());
+        return stats;
+    }
+
+    void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,363 @@
+package com.example.ssedemo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * A connected client: its emitter and a bounded queue of frames waiting to be written
+ * The queue is drained by the shared sender pool with at most one drain task per client,
+ * so frames reach the emitter in order and a slow client only holds up its own queue
+ * A frame of a conflatable type replaces the one of that type still waiting, so a lagging
+ * client holds at most one pending frame per conflatable type
+ * With batching, a drain writes everything queued in one emitter send, and frames of
+ * batched topics wait for the batching window before a drain is started
+ * The time of the last write tells the heartbeat wheel whether the connection is idle
+ * The emitter's methods wait for a write in progress, so a client disconnected during one
+ * completes its emitter from the sender thread once the write returns
+ */
+@Slf4j
+final class SseClient {
+
+    /**
+     * Frames written per drain task before yielding the sender thread to other clients;
+     * also the largest batch written at once
+     */
+    private static final int MAX_FRAMES_PER_DRAIN = 64;
+
+    /**
+     * @param conflationKey Topic under which the frame is pending, or null if it is not conflatable
+     */
+    private record PendingFrame(String eventType, String conflationKey, SseFrame frame) {
+    }
+
+    private final String clientId;
+    private final SseEmitter emitter;
+    private final int capacity;
+    private final OverflowPolicy overflowPolicy;
+    private final Conflation conflation;
+    private final Batching batching;
+    private final SenderPool sender;
+    private final BiConsumer<SseClient, Exception> onSendFailure;
+
+    /**
+     * Subscribed topics; empty for all. Replaced as a whole on change
+     */
+    private volatile Set<String> topics;
+
+    /**
+     * SSE ID of the latest broadcast queued for this client; only used under the publish lock
+     */
+    private long lastBroadcastId;
+
+    /**
+     * System.nanoTime() of the last completed write, or of the connection
+     */
+    private volatile long lastWriteNanos = System.nanoTime();
+
+    // Guarded by this
+    private final Deque<PendingFrame> queue = new ArrayDeque<>();
+    private final Map<String, PendingFrame> pendingByTopic = new HashMap<>();
+    private boolean draining;
+    private long batchTimer; // ID of the pending batching timer, 0 if none
+    private long batchTimers;
+    private boolean closed;
+    private long writeStartedNanos; // 0 if no write is in progress
+    private boolean completeAfterWrite;
+    private long sent;
+    private long writes;
+    private long dropped;
+    private long conflated;
+
+    SseClient(String clientId, SseEmitter emitter, Set<String> topics, int capacity,
+              OverflowPolicy overflowPolicy, Conflation conflation, Batching batching, SenderPool sender,
+              BiConsumer<SseClient, Exception> onSendFailure) {
+        this.clientId = clientId;
+        this.emitter = emitter;
+        this.topics = topics;
+        this.capacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+        this.conflation = conflation;
+        this.batching = batching;
+        this.sender = sender;
+        this.onSendFailure = onSendFailure;
+    }
+
+    String getClientId() {
+        return clientId;
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    Set<String> getTopics() {
+        return topics;
+    }
+
+    void setTopics(Set<String> topics) {
+        this.topics = topics;
+    }
+
+    long getLastWriteNanos() {
+        return lastWriteNanos;
+    }
+
+    /**
+     * Claim a broadcast for this client; false if it was already queued, as a client changing
+     * between all topics and specific topics is briefly indexed under both
+     * Only called under the publish lock
+     */
+    boolean claimBroadcast(long id) {
+        if (id <= lastBroadcastId) {
+            return false;
+        }
+        lastBroadcastId = id;
+        return true;
+    }
+
+    boolean isSubscribedTo(String topic) {
+        Set<String> current = topics;
+        return current.isEmpty() || current.contains(topic);
+    }
+
+    /**
+     * Queue a frame and make sure a drain task is scheduled; never blocks on the network
+     *
+     * @return false if the queue overflowed under the DISCONNECT policy; the client is then
+     *         closed and the caller disconnects it. Frames offered to a closed client are ignored
+     */
+    boolean offer(String eventType, SseFrame frame) {
+        synchronized (this) {
+            if (closed) {
+                return true;
+            }
+            String topic = SseEmitterService.topicOf(eventType);
+            String conflationKey = conflation.isConflatable(topic) ? topic : null;
+            if (conflationKey != null) {
+                PendingFrame superseded = pendingByTopic.remove(conflationKey);
+                if (superseded != null) {
+                    // Take it out rather than overwrite it in place, so SSE IDs stay increasing on the wire
+                    queue.remove(superseded);
+                    conflated++;
+                    conflation.recordConflated(conflationKey, superseded.frame().size());
+                }
+            }
+            if (queue.size() >= capacity && !makeRoom(eventType)) {
+                close();
+                return false;
+            }
+            PendingFrame pending = new PendingFrame(eventType, conflationKey, frame);
+            queue.addLast(pending);
+            if (conflationKey != null) {
+                pendingByTopic.put(conflationKey, pending);
+            }
+            if (draining) {
+                return true;
+            }
+            if (batching.isDeferred(topic)) {
+                if (batchTimer == 0) {
+                    long timerId = ++batchTimers;
+                    batchTimer = timerId;
+                    batching.schedule(() -> flushBatch(timerId));
+                }
+                return true;
+            }
+            // Start now, taking along the frames waiting for a timer; the timer then finds nothing to do
+            batchTimer = 0;
+            draining = true;
+        }
+        sender.execute(this::drain);
+        return true;
+    }
+
+    /**
+     * Batching window elapsed: start a drain unless one was started in the meantime
+     */
+    private void flushBatch(long timerId) {
+        synchronized (this) {
+            if (closed || draining || batchTimer != timerId) {
+                return;
+            }
+            batchTimer = 0;
+            draining = true;
+        }
+        sender.execute(this::drain);
+    }
+
+    /**
+     * Stop accepting frames and discard the queue; the emitter is completed by the caller
+     */
+    synchronized void close() {
+        closed = true;
+        queue.clear();
+        pendingByTopic.clear();
+    }
+
+    synchronized boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Close the client and complete its emitter, right away or once the write in progress returns,
+     * so the caller never waits for a stalled write
+     */
+    void disconnect() {
+        synchronized (this) {
+            close();
+            if (writeStartedNanos != 0) {
+                completeAfterWrite = true;
+                return;
+            }
+        }
+        emitter.complete();
+    }
+
+    /**
+     * Close the client if its write has been in progress for at least the timeout; the emitter
+     * is completed when the write returns
+     *
+     * @return true if the write is stalled
+     */
+    synchronized boolean closeIfStalled(long nowNanos, long timeoutNanos) {
+        if (writeStartedNanos == 0 || nowNanos - writeStartedNanos < timeoutNanos) {
+            return false;
+        }
+        close();
+        completeAfterWrite = true;
+        return true;
+    }
+
+    /**
+     * Queue depth and delivery counters
+     */
+    synchronized Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("clientId", clientId);
+        stats.put("topics", topics.isEmpty() ? "all" : topics);
+        stats.put("queueDepth", queue.size());
+        stats.put("sent", sent);
+        stats.put("writes", writes);
+        stats.put("dropped", dropped);
+        stats.put("conflated", conflated);
+        stats.put("idleMs", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lastWriteNanos));
+        return stats;
+    }
+
+    synchronized int getQueueDepth() {
+        return queue.size();
+    }
+
+    synchronized long getDropped() {
+        return dropped;
+    }
+
+    synchronized long getConflated() {
+        return conflated;
+    }
+
+    /**
+     * Apply the overflow policy to a full queue
+     *
+     * @return false if the client has to be disconnected
+     */
+    private boolean makeRoom(String eventType) {
+        switch (overflowPolicy) {
+            case DISCONNECT:
+                return false;
+            case CONFLATE:
+                Iterator<PendingFrame> it = queue.iterator();
+                while (it.hasNext()) {
+                    PendingFrame pending = it.next();
+                    if (pending.eventType().equals(eventType)) {
+                        it.remove();
+                        forget(pending);
+                        conflated++;
+                        return true;
+                    }
+                }
+                forget(queue.pollFirst());
+                dropped++;
+                return true;
+            default:
+                forget(queue.pollFirst());
+                dropped++;
+                return true;
+        }
+    }
+
+    /**
+     * Drop the conflation entry of a frame that left the queue
+     */
+    private void forget(PendingFrame pending) {
+        if (pending != null && pending.conflationKey() != null) {
+            pendingByTopic.remove(pending.conflationKey(), pending);
+        }
+    }
+
+    private void drain() {
+        int framesPerWrite = batching.isEnabled() ? MAX_FRAMES_PER_DRAIN : 1;
+        for (int written = 0; ; ) {
+            List<SseFrame> frames;
+            synchronized (this) {
+                if (closed || queue.isEmpty()) {
+                    draining = false;
+                    return;
+                }
+                if (written == MAX_FRAMES_PER_DRAIN) {
+                    // Still draining: requeue behind the other clients' tasks
+                    break;
+                }
+                int count = Math.min(queue.size(), Math.min(framesPerWrite, MAX_FRAMES_PER_DRAIN - written));
+                frames = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    PendingFrame pending = queue.pollFirst();
+                    forget(pending);
+                    frames.add(pending.frame());
+                }
+                writeStartedNanos = System.nanoTime();
+            }
+            sender.writeStarted(this);
+            try {
+                // One send is one write and one flush
+                emitter.send(frames.size() == 1 ? frames.get(0) : SseFrame.concat(frames));
+            } catch (Exception e) {
+                synchronized (this) {
+                    writeStartedNanos = 0;
+                }
+                sender.writeFinished(this);
+                close();
+                onSendFailure.accept(this, e);
+                return;
+            }
+            lastWriteNanos = System.nanoTime();
+            boolean complete;
+            synchronized (this) {
+                writeStartedNanos = 0;
+                complete = completeAfterWrite;
+                sent += frames.size();
+                writes++;
+            }
+            sender.writeFinished(this);
+            batching.recordWrite(frames.size());
+            written += frames.size();
+            log.debug("Sent {} events to client: {}", frames.size(), clientId);
+            if (complete) {
+                // Disconnected during the write; the next pass finds the client closed
+                emitter.complete();
+            }
+        }
+        sender.execute(this::drain);
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.ssedemo.service;
 
 import com.example.ssedemo.model.SseEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -8,25 +9,96 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Service for managing Server-Sent Events (SSE) connections and broadcasting
  * Thread-safe implementation using ConcurrentHashMap for managing multiple clients
+ * Broadcasts only enqueue frames on each client's bounded queue; a sender pool does the
+ * writes, so a slow client delays neither the caller nor the other clients
+ * Broadcasts carry increasing SSE IDs, scoped by a per-process epoch, and are kept in a replay
+ * buffer for reconnecting clients
+ * A topic index maps each event type to its subscribers, so a broadcast only touches the
+ * clients that asked for it
+ * Heartbeats only go to connections that have not been written to for half the heartbeat
+ * interval, found by a timer wheel instead of a scan of all clients
  */
 @Slf4j
 @Service
 public class SseEmitterService {
 
-    private final ConcurrentHashMap<String, SseEmitter> emitters = new ConcurrentHashMap<>();
+    /**
+     * Heartbeat frame, an empty SSE comment; the same bytes for every client
+     */
+    private static final SseFrame HEARTBEAT = SseFrame.ofComment("");
+    private static final String HEARTBEAT_TYPE = "HEARTBEAT";
+
+    private final ConcurrentHashMap<String, SseClient> clients = new ConcurrentHashMap<>();
+
+    /**
+     * Topic (event type) to subscribers, plus the clients that subscribed without topics
+     * Concurrent sets: broadcasts iterate them without locking while subscriptions change
+     */
+    private final ConcurrentHashMap<String, Set<SseClient>> topicSubscribers = new ConcurrentHashMap<>();
+    private final Set<SseClient> allTopicsSubscribers = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Serializes index updates between subscribe, unsubscribe and topic changes; never taken by broadcasts
+     */
+    private final Object subscriptionLock = new Object();
+    private final ConcurrentHashMap<String, LongAdder> publishedByTopic = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, LongAdder> deliveredByTopic = new ConcurrentHashMap<>();
     private final ObjectMapper objectMapper;
-    private final ScheduledExecutorService heartbeatExecutor = Executors.newSingleThreadScheduledExecutor();
+    private final ScheduledExecutorService heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "sse-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private HeartbeatWheel heartbeatWheel;
+    private final ScheduledExecutorService batchTimer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "sse-batch-timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicLong overflowDisconnects = new AtomicLong();
+    private SenderPool senderPool;
+
+    /**
+     * Orders broadcasts by ID and keeps subscribe-with-replay atomic with respect to them,
+     * so a reconnecting client neither misses nor repeats a broadcast
+     */
+    private final ReentrantLock publishLock = new ReentrantLock();
+    private long lastEventId; // guarded by publishLock
+
+    /**
+     * Prefix of every SSE ID, "<epoch>-<sequence>": the boot time in base 36
+     * A Last-Event-ID from before a restart or from another node has a different epoch, so its
+     * sequence number is never compared with this process's one
+     */
+    private final String idEpoch = Long.toString(System.currentTimeMillis(), 36);
+    private ReplayBuffer replayBuffer;
+    private final AtomicLong replayRequests = new AtomicLong();
+    private final AtomicLong replayedFrames = new AtomicLong();
+    private final AtomicLong replayGaps = new AtomicLong();
 
     public SseEmitterService(ObjectMapper objectMapper) {
         this.objectMapper = objectMapper;
@@ -36,17 +108,92 @@ public class SseEmitterService {
     private long heartbeatInterval;
 
     /**
-     * Initialize heartbeat mechanism to keep connections alive
+     * Resolution of the heartbeat wheel; an idle client's heartbeat goes out up to one tick late
+     */
+    @Value("${sse.timeout.heartbeat-tick-ms:100}")
+    private long heartbeatTickMs;
+
+    @Value("${sse.retry.delay:1000}")
+    private long retryDelay;
+
+    /**
+     * Serialize each broadcast once into a shared frame instead of once per client
+     */
+    @Value("${sse.broadcast.shared-frame:true}")
+    private boolean sharedFrame;
+
+    /**
+     * Frames each client may have waiting before the overflow policy applies
+     */
+    @Value("${sse.fanout.queue-capacity:256}")
+    private int queueCapacity;
+
+    @Value("${sse.fanout.overflow-policy:DROP_OLDEST}")
+    private OverflowPolicy overflowPolicy;
+
+    /**
+     * Threads writing queued frames; a client stuck in a blocking write holds one of them
+     */
+    @Value("${sse.fanout.sender-threads:8}")
+    private int senderThreads;
+
+    /**
+     * How long a write may block before its client is disconnected and its sender thread
+     * replaced; 0 waits for the socket write timeout
+     */
+    @Value("${sse.fanout.stall-timeout-ms:5000}")
+    private long stallTimeoutMs;
+
+    /**
+     * Broadcasts retained for Last-Event-ID replay; 0 disables replay
+     */
+    @Value("${sse.replay.capacity:1024}")
+    private int replayCapacity;
+
+    @Value("${sse.replay.max-age-ms:300000}")
+    private long replayMaxAgeMs;
+
+    /**
+     * Event types of which each client keeps only the latest pending frame
+     */
+    @Value("${sse.conflation.types:TIME,METRICS,HEARTBEAT}")
+    private Set<String> conflationTypes;
+
+    private Conflation conflation;
+
+    /**
+     * How long a frame may wait for others to share its write; 0 writes every frame on its own
+     */
+    @Value("${sse.batching.window-ms:10}")
+    private long batchingWindowMs;
+
+    /**
+     * Latency-sensitive topics that never wait for the batching window
+     */
+    @Value("${sse.batching.immediate-topics:ALERT}")
+    private Set<String> batchingImmediateTopics;
+
+    private Batching batching;
+
+    /**
+     * Start the sender pool and the heartbeat wheel
      */
     @PostConstruct
     public void init() {
-        // Schedule heartbeat every 30 seconds to prevent connection timeout
-        heartbeatExecutor.scheduleAtFixedRate(
-            this::sendHeartbeatToAll,
-            heartbeatInterval / 2,
-            heartbeatInterval / 2,
-            TimeUnit.MILLISECONDS
-        );
+        senderPool = new SenderPool(senderThreads, stallTimeoutMs);
+        if (replayCapacity > 0) {
+            replayBuffer = new ReplayBuffer(replayCapacity, replayMaxAgeMs);
+        }
+        conflation = new Conflation(normalizeTopics(conflationTypes));
+        batching = new Batching(batchingWindowMs, normalizeTopics(batchingImmediateTopics), batchTimer);
+
+        // No connection stays silent for more than half the heartbeat interval (plus a tick)
+        heartbeatWheel = new HeartbeatWheel(heartbeatInterval / 2, heartbeatTickMs, this::sendHeartbeat);
+        heartbeatExecutor.scheduleAtFixedRate(heartbeatWheel::tick, heartbeatTickMs, heartbeatTickMs,
+            TimeUnit.MILLISECONDS);
+        // Only looks at the writes in progress, at most one per sender thread
+        heartbeatExecutor.scheduleAtFixedRate(this::disconnectStalled, heartbeatTickMs, heartbeatTickMs,
+            TimeUnit.MILLISECONDS);
     }
 
     /**
@@ -54,64 +201,114 @@ public class SseEmitterService {
      * 
      * @param clientId Unique identifier for the client
      * @param timeout Timeout in milliseconds (default: 30 minutes)
+     * @param lastEventId Last-Event-ID of a reconnecting client, or null
+     * @param topics Event types to receive; null or empty for all
      * @return SseEmitter instance
      */
-    public SseEmitter createEmitter(String clientId, Long timeout) {
+    public SseEmitter createEmitter(String clientId, Long timeout, String lastEventId, Collection<String> topics) {
         // Default timeout: 30 minutes
         long timeoutMs = timeout != null ? timeout : 30 * 60 * 1000L;
         
         SseEmitter emitter = new SseEmitter(timeoutMs);
+        SseClient client = new SseClient(clientId, emitter, normalizeTopics(topics), queueCapacity,
+            overflowPolicy, conflation, batching, senderPool, this::onSendFailure);
         
-        // Clean up on completion or timeout
+        // Clean up on completion or timeout; a reconnect under the same ID keeps its new entry
         emitter.onCompletion(() -> {
             log.info("Emitter completed for client: {}", clientId);
-            emitters.remove(clientId);
+            unregister(client);
         });
         
         emitter.onTimeout(() -> {
             log.info("Emitter timed out for client: {}", clientId);
-            emitters.remove(clientId);
+            unregister(client);
         });
         
         emitter.onError((ex) -> {
             log.error("Emitter error for client: {}", clientId, ex);
-            emitters.remove(clientId);
+            unregister(client);
         });
         
-        // Store emitter
-        emitters.put(clientId, emitter);
-        
-        // Send initial connection event
+        // Only a replay has to be atomic with respect to broadcasts
+        boolean replaying = replayBuffer != null && lastEventId != null && !lastEventId.isBlank();
+        if (replaying) {
+            publishLock.lock();
+        }
         try {
-            SseEvent event = SseEvent.create("CONNECTION", "Connected to SSE server", 
-                Map.of("clientId", clientId, "timestamp", LocalDateTime.now().toString()));
-            sendToClient(clientId, event);
-        } catch (Exception e) {
-            log.error("Error sending initial connection event", e);
+            // Computed before registering, so a failure does not leave a half-registered client
+            List<ReplayBuffer.Entry> missed = replaying ? missedSince(client, lastEventId) : List.of();
+
+            // Store client
+            register(client);
+            
+            // Send initial connection event
+            try {
+                SseEvent event = SseEvent.create("CONNECTION", "Connected to SSE server", 
+                    Map.of("clientId", clientId, "timestamp", LocalDateTime.now().toString()));
+                sendToClient(clientId, event);
+            } catch (Exception e) {
+                log.error("Error sending initial connection event", e);
+            }
+
+            // Missed broadcasts go ahead of any live one
+            for (ReplayBuffer.Entry entry : missed) {
+                enqueue(client, entry.eventType(), entry.frame());
+            }
+        } finally {
+            if (replaying) {
+                publishLock.unlock();
+            }
         }
         
-        log.info("Created new SSE emitter for client: {}, total active connections: {}", 
-            clientId, emitters.size());
+        log.info("Created new SSE emitter for client: {} (topics: {}), total active connections: {}", 
+            clientId, client.getTopics().isEmpty() ? "all" : client.getTopics(), clients.size());
         
         return emitter;
     }
 
     /**
-     * Broadcast an event to all connected clients
+     * Broadcast an event to the clients subscribed to its type
+     * Only enqueues the frame on every subscriber's queue; the sender pool writes it
      * 
      * @param event The event to broadcast
      */
     public void broadcast(SseEvent event) {
-        log.info("Broadcasting event {} to {} clients", event.getEventType(), emitters.size());
-        
-        emitters.forEach((clientId, emitter) -> {
-            try {
-                sendToClient(clientId, emitter, event);
-            } catch (Exception e) {
-                log.error("Error broadcasting to client: {}", clientId, e);
-                emitters.remove(clientId);
+        String topic = topicOf(event.getEventType());
+        Set<SseClient> subscribers = topicSubscribers.get(topic);
+        log.info("Broadcasting event {} to {} clients", event.getEventType(),
+            allTopicsSubscribers.size() + (subscribers != null ? subscribers.size() : 0));
+
+        publishLock.lock();
+        try {
+            long id = lastEventId + 1;
+            SseFrame shared = encode(event, id);
+            if (shared == null) {
+                return;
             }
-        });
+            lastEventId = id;
+            if (replayBuffer != null) {
+                replayBuffer.add(id, event.getEventType(), shared);
+            }
+
+            LongAdder delivered = deliveredByTopic.computeIfAbsent(topic, key -> new LongAdder());
+            Consumer<SseClient> deliver = client -> {
+                if (!client.claimBroadcast(id)) {
+                    return;
+                }
+                SseFrame frame = sharedFrame ? shared : encode(event, id);
+                if (frame != null) {
+                    enqueue(client, event.getEventType(), frame);
+                    delivered.increment();
+                }
+            };
+            allTopicsSubscribers.forEach(deliver);
+            if (subscribers != null) {
+                subscribers.forEach(deliver);
+            }
+            publishedByTopic.computeIfAbsent(topic, key -> new LongAdder()).increment();
+        } finally {
+            publishLock.unlock();
+        }
     }
 
     /**
@@ -121,71 +318,330 @@ public class SseEmitterService {
      * @param event The event to send
      */
     public void sendToClient(String clientId, SseEvent event) {
-        SseEmitter emitter = emitters.get(clientId);
-        if (emitter != null) {
-            sendToClient(clientId, emitter, event);
+        SseClient client = clients.get(clientId);
+        if (client != null) {
+            // No SSE ID: a client-specific event is not part of the replayable stream
+            SseFrame frame = encode(event, null);
+            if (frame != null) {
+                enqueue(client, event.getEventType(), frame);
+            }
         } else {
             log.warn("Client not found: {}", clientId);
         }
     }
 
     /**
-     * Internal method to send event via SseEmitter
+     * Serialize an event into a frame that can be written to any number of emitters
+     *
+     * @param id SSE ID of the frame, or null for none
+     * @return the frame, or null if the event cannot be serialized
      */
-    private void sendToClient(String clientId, SseEmitter emitter, SseEvent event) {
+    private SseFrame encode(SseEvent event, Long id) {
         try {
-            String eventData = objectMapper.writeValueAsString(event);
-            emitter.send(SseEmitter.event()
-                //.name(event.getEventType())
-                .id(event.getEventId())
-                .data(eventData)
-                .reconnectTime(1000));
-            
-            log.debug("Sent event {} to client: {}", event.getEventType(), clientId);
-        } catch (IOException e) {
-            log.error("IO Error sending event to client: {}", clientId, e);
-            emitter.completeWithError(e);
-            emitters.remove(clientId);
+            return SseFrame.of(id != null ? idEpoch + "-" + id : null, null,
+                objectMapper.writeValueAsString(event), retryDelay);
+        } catch (JsonProcessingException e) {
+            log.error("Error serializing event {}", event.getEventType(), e);
+            return null;
         }
     }
 
     /**
-     * Send heartbeat to keep connections alive
+     * Queue a frame for a client, disconnecting it if the DISCONNECT overflow policy applies
      */
-    private void sendHeartbeatToAll() {
-        SseEvent heartbeat = SseEvent.builder()
-            .eventType("HEARTBEAT")
-            .message("Keep-alive")
-            .timestamp(LocalDateTime.now())
-            .build();
-        
-        emitters.forEach((clientId, emitter) -> {
-            try {
-                String data = objectMapper.writeValueAsString(heartbeat);
-                emitter.send(SseEmitter.event()
-                    .name("heartbeat")
-                    .data(data));
-            } catch (Exception e) {
-                log.warn("Failed to send heartbeat to client: {}", clientId);
-                emitters.remove(clientId);
+    private void enqueue(SseClient client, String eventType, SseFrame frame) {
+        if (!client.offer(eventType, frame)) {
+            overflowDisconnects.incrementAndGet();
+            log.warn("Send queue overflow, disconnecting client: {}", client.getClientId());
+            deregister(client);
+            client.disconnect();
+        }
+    }
+
+    /**
+     * Disconnect the clients whose write has blocked for longer than the stall timeout
+     */
+    private void disconnectStalled() {
+        for (SseClient client : senderPool.closeStalled()) {
+            log.warn("Write to client {} blocked for over {} ms, disconnecting", client.getClientId(), stallTimeoutMs);
+            deregister(client);
+        }
+    }
+
+    /**
+     * The retained broadcasts a reconnecting client missed since its Last-Event-ID, at most a
+     * full send queue of the newest ones
+     * An ID from another epoch gets every retained broadcast and counts as a gap, since what
+     * the client missed before this process started is lost
+     * Called under the publish lock, so no broadcast falls between replayed and live frames
+     */
+    private List<ReplayBuffer.Entry> missedSince(SseClient client, String lastEventIdHeader) {
+        String header = lastEventIdHeader.trim();
+        int separator = header.lastIndexOf('-');
+        long afterId;
+        try {
+            afterId = Long.parseLong(header.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            afterId = -1;
+        }
+        if (separator <= 0 || afterId < 0) {
+            log.debug("Ignoring malformed Last-Event-ID {} from client: {}", lastEventIdHeader, client.getClientId());
+            return List.of();
+        }
+        replayRequests.incrementAndGet();
+
+        boolean otherEpoch = !header.substring(0, separator).equals(idEpoch);
+        if (otherEpoch) {
+            afterId = 0;
+        } else if (afterId == replayBuffer.getLastId()) {
+            return List.of();
+        }
+        // Filter before capping, so other topics do not push the client's own frames out of the replay
+        ReplayBuffer.Slice missed = replayBuffer.since(afterId, queueCapacity,
+            entry -> client.isSubscribedTo(topicOf(entry.eventType())));
+        List<ReplayBuffer.Entry> entries = missed.entries();
+        if (otherEpoch || !missed.complete()) {
+            replayGaps.incrementAndGet();
+            log.warn("Replay for client {} starts after a gap: requested after {}, oldest replayed {}",
+                client.getClientId(), lastEventIdHeader, entries.isEmpty() ? "none" : entries.get(0).id());
+        }
+        replayedFrames.addAndGet(entries.size());
+        log.info("Replaying {} events after ID {} to client: {}", entries.size(), lastEventIdHeader, client.getClientId());
+        return entries;
+    }
+
+    /**
+     * Called by the sender pool when writing to a client fails
+     */
+    private void onSendFailure(SseClient client, Exception e) {
+        if (e instanceof IOException) {
+            log.error("IO Error sending event to client: {}", client.getClientId(), e);
+            client.getEmitter().completeWithError(e);
+        } else {
+            log.error("Error sending event to client: {}", client.getClientId(), e);
+        }
+        deregister(client);
+    }
+
+    private void unregister(SseClient client) {
+        client.close();
+        deregister(client);
+    }
+
+    /**
+     * Add a client to the registry and the topic index, replacing an earlier connection with the same ID
+     */
+    private void register(SseClient client) {
+        synchronized (subscriptionLock) {
+            SseClient previous = clients.put(client.getClientId(), client);
+            if (previous != null) {
+                unindex(previous, previous.getTopics());
             }
-        });
+            index(client, client.getTopics());
+        }
+        heartbeatWheel.add(client);
+    }
+
+    /**
+     * Remove a client from the registry and the topic index, unless it was already replaced
+     */
+    private void deregister(SseClient client) {
+        synchronized (subscriptionLock) {
+            clients.remove(client.getClientId(), client);
+            unindex(client, client.getTopics());
+        }
+    }
+
+    private void index(SseClient client, Set<String> topics) {
+        if (topics.isEmpty()) {
+            allTopicsSubscribers.add(client);
+        } else {
+            topics.forEach(topic -> topicSubscribers.computeIfAbsent(topic, key -> ConcurrentHashMap.newKeySet()).add(client));
+        }
+    }
+
+    private void unindex(SseClient client, Set<String> topics) {
+        if (topics.isEmpty()) {
+            allTopicsSubscribers.remove(client);
+        } else {
+            topics.forEach(topic -> {
+                Set<SseClient> subscribers = topicSubscribers.get(topic);
+                if (subscribers != null) {
+                    subscribers.remove(client);
+                }
+            });
+        }
+    }
+
+    /**
+     * Change the topics of a connected client; takes effect from the next broadcast
+     *
+     * @param topics Event types to receive; null or empty for all
+     * @return false if the client is not connected
+     */
+    public boolean updateTopics(String clientId, Collection<String> topics) {
+        Set<String> newTopics = normalizeTopics(topics);
+        synchronized (subscriptionLock) {
+            SseClient client = clients.get(clientId);
+            if (client == null) {
+                return false;
+            }
+            Set<String> oldTopics = client.getTopics();
+            // Index under the new topics before leaving the old ones, so no broadcast is missed;
+            // one that finds the client under both is still queued only once (claimBroadcast)
+            index(client, newTopics);
+            client.setTopics(newTopics);
+            if (oldTopics.isEmpty() != newTopics.isEmpty()) {
+                unindex(client, oldTopics);
+            } else {
+                Set<String> removed = new HashSet<>(oldTopics);
+                removed.removeAll(newTopics);
+                unindex(client, removed);
+            }
+        }
+        log.info("Client {} now subscribed to {}", clientId, newTopics.isEmpty() ? "all topics" : newTopics);
+        return true;
+    }
+
+    static Set<String> normalizeTopics(Collection<String> topics) {
+        Set<String> normalized = new TreeSet<>();
+        if (topics != null) {
+            topics.stream()
+                .filter(topic -> topic != null && !topic.isBlank())
+                .forEach(topic -> normalized.add(topicOf(topic.trim())));
+        }
+        return Set.copyOf(normalized);
+    }
+
+    /**
+     * Topics are event types, matched case-insensitively
+     */
+    static String topicOf(String eventType) {
+        return eventType == null ? "" : eventType.toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Keep an idle connection alive; called by the heartbeat wheel
+     */
+    private void sendHeartbeat(SseClient client) {
+        enqueue(client, HEARTBEAT_TYPE, HEARTBEAT);
     }
 
     /**
      * Get count of active connections
      */
     public int getActiveConnectionsCount() {
-        return emitters.size();
+        return clients.size();
+    }
+
+    /**
+     * Fan-out settings and queue totals across all clients
+     */
+    public Map<String, Object> getFanoutStats() {
+        long queued = 0;
+        long dropped = 0;
+        long conflated = 0;
+        for (SseClient client : clients.values()) {
+            queued += client.getQueueDepth();
+            dropped += client.getDropped();
+            conflated += client.getConflated();
+        }
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("queueCapacity", queueCapacity);
+        stats.put("overflowPolicy", overflowPolicy);
+        stats.put("senderThreads", senderThreads);
+        stats.putAll(senderPool.getStats());
+        stats.put("queuedFrames", queued);
+        stats.put("droppedFrames", dropped);
+        stats.put("conflatedFrames", conflated);
+        stats.put("overflowDisconnects", overflowDisconnects.get());
+        return stats;
+    }
+
+    /**
+     * Conflatable event types and, per topic, frames replaced by a newer one and bytes not written
+     */
+    public Map<String, Object> getConflationStats() {
+        return conflation.getStats();
+    }
+
+    /**
+     * Batching window and writes versus frames written across all clients
+     */
+    public Map<String, Object> getBatchingStats() {
+        return batching.getStats();
+    }
+
+    /**
+     * Idle threshold, wheel resolution, and heartbeats sent versus due clients that had written since
+     */
+    public Map<String, Object> getHeartbeatStats() {
+        return heartbeatWheel.getStats();
+    }
+
+    /**
+     * Per topic: subscribers (including clients subscribed to all topics), events
+     * published and frames delivered to subscriber queues
+     */
+    public Map<String, Object> getTopicStats() {
+        Set<String> topics = new TreeSet<>(topicSubscribers.keySet());
+        topics.addAll(publishedByTopic.keySet());
+        Map<String, Object> stats = new LinkedHashMap<>();
+        for (String topic : topics) {
+            Set<SseClient> subscribers = topicSubscribers.get(topic);
+            LongAdder published = publishedByTopic.get(topic);
+            LongAdder delivered = deliveredByTopic.get(topic);
+            Map<String, Object> topicStats = new LinkedHashMap<>();
+            topicStats.put("subscribers", allTopicsSubscribers.size() + (subscribers != null ? subscribers.size() : 0));
+            topicStats.put("published", published != null ? published.sum() : 0);
+            topicStats.put("delivered", delivered != null ? delivered.sum() : 0);
+            stats.put(topic, topicStats);
+        }
+        return stats;
+    }
+
+    /**
+     * Clients subscribed without a topic filter
+     */
+    public int getAllTopicsSubscriberCount() {
+        return allTopicsSubscribers.size();
+    }
+
+    /**
+     * Replay buffer settings, retained frames and replay counters
+     */
+    public Map<String, Object> getReplayStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", replayBuffer != null);
+        if (replayBuffer != null) {
+            stats.put("capacity", replayBuffer.capacity());
+            stats.put("maxAgeMs", replayBuffer.maxAgeMs());
+            stats.put("lastEventId", idEpoch + "-" + replayBuffer.getLastId());
+            stats.put("retained", replayBuffer.size());
+        }
+        stats.put("replayRequests", replayRequests.get());
+        stats.put("replayedFrames", replayedFrames.get());
+        stats.put("replayGaps", replayGaps.get());
+        return stats;
+    }
+
+    /**
+     * Queue depth and delivery counters of every connected client
+     */
+    public List<Map<String, Object>> getClientStats() {
+        List<Map<String, Object>> stats = new ArrayList<>();
+        clients.values().forEach(client -> stats.add(client.getStats()));
+        return stats;
     }
 
     /**
      * Remove a specific client connection
      */
     public void removeClient(String clientId) {
-        SseEmitter emitter = emitters.remove(clientId);
-        if (emitter != null) {
-            emitter.complete();
+        SseClient client = clients.get(clientId);
+        if (client != null) {
+            deregister(client);
+            client.disconnect();
             log.info("Removed client: {}", clientId);
         }
     }
@@ -193,10 +649,18 @@ public class SseEmitterService {
     /**
      * Cleanup on bean destruction
      */
+    @PreDestroy
     public void destroy() {
         log.info("Shutting down SSE emitter service...");
         heartbeatExecutor.shutdown();
-        emitters.forEach((id, emitter) -> emitter.complete());
-        emitters.clear();
+        batchTimer.shutdown();
+        clients.forEach((id, client) -> {
+            client.close();
+            client.getEmitter().complete();
+        });
+        clients.clear();
+        topicSubscribers.clear();
+        allTopicsSubscribers.clear();
+        senderPool.shutdown();
     }
 }
@@ -0,0 +1,128 @@
+package com.example.ssedemo.service;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A complete SSE frame (id/event/data/retry lines plus the blank terminator line)
+ * encoded once as UTF-8 bytes
+ * The same instance is written to every emitter of a broadcast, so the event is
+ * serialized once regardless of the number of clients
+ */
+public final class SseFrame implements SseEmitter.SseEventBuilder {
+
+    private final byte[] bytes;
+    private final Set<ResponseBodyEmitter.DataWithMediaType> content;
+
+    private SseFrame(byte[] bytes) {
+        this.bytes = bytes;
+        // byte[] content is written as-is by ByteArrayHttpMessageConverter
+        this.content = Set.of(new ResponseBodyEmitter.DataWithMediaType(bytes, MediaType.TEXT_PLAIN));
+    }
+
+    /**
+     * Encode a frame the same way SseEmitter.event() would
+     *
+     * @param id Event id, or null
+     * @param name Event name, or null for the default "message" event
+     * @param data Data payload; embedded newlines become additional data lines
+     * @param retryMs Reconnection delay, or null
+     */
+    public static SseFrame of(String id, String name, String data, Long retryMs) {
+        StringBuilder sb = new StringBuilder(data.length() + 64);
+        if (id != null) {
+            sb.append("id:").append(id).append('\n');
+        }
+        if (name != null) {
+            sb.append("event:").append(name).append('\n');
+        }
+        sb.append("data:").append(data.replace("\n", "\ndata:")).append('\n');
+        if (retryMs != null) {
+            sb.append("retry:").append(retryMs).append('\n');
+        }
+        sb.append('\n');
+        return new SseFrame(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Encode a comment line, which EventSource ignores; keeps an idle connection alive
+     *
+     * @param comment Text after the colon, without newlines; empty for a bare ":" line
+     */
+    public static SseFrame ofComment(String comment) {
+        return new SseFrame((":" + comment + "\n\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Join frames into one, so they are written with a single write and flush
+     */
+    public static SseFrame concat(List<SseFrame> frames) {
+        int size = 0;
+        for (SseFrame frame : frames) {
+            size += frame.bytes.length;
+        }
+        byte[] joined = new byte[size];
+        int offset = 0;
+        for (SseFrame frame : frames) {
+            System.arraycopy(frame.bytes, 0, joined, offset, frame.bytes.length);
+            offset += frame.bytes.length;
+        }
+        return new SseFrame(joined);
+    }
+
+    /**
+     * Encoded size in bytes
+     */
+    public int size() {
+        return bytes.length;
+    }
+
+    /**
+     * The encoded bytes, shared by every writer of this frame; never modify them
+     */
+    byte[] bytes() {
+        return bytes;
+    }
+
+    @Override
+    public Set<ResponseBodyEmitter.DataWithMediaType> build() {
+        return content;
+    }
+
+    // The frame is immutable once encoded
+
+    @Override
+    public SseEmitter.SseEventBuilder id(String id) {
+        throw new UnsupportedOperationException("SseFrame is already encoded");
+    }
+
+    @Override
+    public SseEmitter.SseEventBuilder name(String eventName) {
+        throw new UnsupportedOperationException("SseFrame is already encoded");
+    }
+
+    @Override
+    public SseEmitter.SseEventBuilder reconnectTime(long reconnectTimeMillis) {
+        throw new UnsupportedOperationException("SseFrame is already encoded");
+    }
+
+    @Override
+    public SseEmitter.SseEventBuilder comment(String comment) {
+        throw new UnsupportedOperationException("SseFrame is already encoded");
+    }
+
+    @Override
+    public SseEmitter.SseEventBuilder data(Object object) {
+        throw new UnsupportedOperationException("SseFrame is already encoded");
+    }
+
+    @Override
+    public SseEmitter.SseEventBuilder data(Object object, MediaType mediaType) {
+        throw new UnsupportedOperationException("SseFrame is already encoded");
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.ssedemo.bus;
+
+import com.example.ssedemo.model.SseEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.net.Socket;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two TcpEventBus nodes connected through a TcpEventRelay on a random local port
+ */
+class TcpEventBusTest {
+
+    private static final long TIMEOUT_MS = 10_000;
+    private static final int QUEUE_CAPACITY = 10_000;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private final List<SseEvent> receivedByA = new CopyOnWriteArrayList<>();
+    private final List<SseEvent> receivedByB = new CopyOnWriteArrayList<>();
+
+    private TcpEventRelay relay;
+    private TcpEventBus nodeA;
+    private TcpEventBus nodeB;
+
+    @BeforeEach
+    void startNodes() throws Exception {
+        relay = new TcpEventRelay(0, QUEUE_CAPACITY);
+        relay.start();
+        nodeA = new TcpEventBus(objectMapper, "A", 100, "localhost", relay.getPort(), 50, QUEUE_CAPACITY);
+        nodeB = new TcpEventBus(objectMapper, "B", 100, "localhost", relay.getPort(), 50, QUEUE_CAPACITY);
+        nodeA.subscribe(receivedByA::add);
+        nodeB.subscribe(receivedByB::add);
+        nodeA.start();
+        nodeB.start();
+        await(() -> isConnected(nodeA) && isConnected(nodeB) && relay.getConnectionCount() == 2);
+    }
+
+    @AfterEach
+    void stopNodes() {
+        nodeA.stop();
+        nodeB.stop();
+        relay.stop();
+    }
+
+    @Test
+    void publishedEventReachesEveryNodeOnce() throws Exception {
+        SseEvent event = SseEvent.create("ALERT", "from A", Map.of("severity", "HIGH"));
+
+        nodeA.publish(event);
+
+        await(() -> receivedByB.size() == 1 && count(nodeA, "duplicatesDropped") == 1);
+        assertThat(receivedByA).extracting(SseEvent::getEventId).containsExactly(event.getEventId());
+        assertThat(receivedByB).extracting(SseEvent::getEventId).containsExactly(event.getEventId());
+        assertThat(receivedByB.get(0).getMessage()).isEqualTo("from A");
+
+        Map<String, Object> statsA = nodeA.getStats();
+        assertThat(statsA.get("published")).isEqualTo(1L);
+        assertThat(statsA.get("delivered")).isEqualTo(1L);
+        assertThat(statsA.get("deliveredFromOtherNodes")).isEqualTo(0L);
+
+        Map<String, Object> statsB = nodeB.getStats();
+        assertThat(statsB.get("published")).isEqualTo(0L);
+        assertThat(statsB.get("delivered")).isEqualTo(1L);
+        assertThat(statsB.get("deliveredFromOtherNodes")).isEqualTo(1L);
+        assertThat(statsB.get("duplicatesDropped")).isEqualTo(0L);
+    }
+
+    @Test
+    void eventsFromBothNodesAreDeliveredOnceEach() throws Exception {
+        SseEvent fromA = SseEvent.create("NOTIFICATION", "from A");
+        SseEvent fromB = SseEvent.create("NOTIFICATION", "from B");
+
+        nodeA.publish(fromA);
+        nodeB.publish(fromB);
+
+        await(() -> receivedByA.size() == 2 && receivedByB.size() == 2
+            && count(nodeA, "duplicatesDropped") == 1 && count(nodeB, "duplicatesDropped") == 1);
+        // Give a stray second copy the time to arrive before checking there is none
+        Thread.sleep(200);
+        assertThat(receivedByA).extracting(SseEvent::getEventId)
+            .containsExactlyInAnyOrder(fromA.getEventId(), fromB.getEventId());
+        assertThat(receivedByB).extracting(SseEvent::getEventId)
+            .containsExactlyInAnyOrder(fromA.getEventId(), fromB.getEventId());
+        assertThat(relay.getRelayedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void nodeThatStopsReadingDoesNotHoldUpTheOthers() throws Exception {
+        try (Socket stalled = new Socket("localhost", relay.getPort())) {
+            await(() -> relay.getConnectionCount() == 3);
+            // Far more than the socket buffers of the connection nobody reads from
+            String payload = "x".repeat(4096);
+            int events = 5000;
+            for (int i = 0; i < events; i++) {
+                nodeA.publish(SseEvent.create("NOTIFICATION", payload));
+            }
+
+            await(() -> receivedByB.size() == events);
+            assertThat(count(nodeA, "sendDropped")).isZero();
+        }
+    }
+
+    private static boolean isConnected(TcpEventBus bus) {
+        return Boolean.TRUE.equals(bus.getStats().get("connected"));
+    }
+
+    private static long count(TcpEventBus bus, String stat) {
+        return ((Number) bus.getStats().get(stat)).longValue();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("condition met within %d ms", TIMEOUT_MS).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+}